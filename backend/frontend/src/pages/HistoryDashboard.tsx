@@ -40,27 +40,24 @@ const qs = (obj: Record<string, unknown>) =>
 const fmt = (n: number, d = 1) =>
   new Intl.NumberFormat(undefined, { maximumFractionDigits: d, minimumFractionDigits: d }).format(n);
 
-async function getHistory(filters: Filters): Promise<HistoryList> {
-  const url = `/api/history?${qs(filters)}`;
-  const res = await fetch(url, { credentials: "include" });
-  if (!res.ok) throw new Error(`history:${res.status}`);
-  return res.json();
-}
-async function getStats(filters: Filters): Promise<Stats> {
-  const url = `/api/history/stats?${qs({ from: filters.from, to: filters.to, type: filters.type })}`;
+type Summary = {
+  total: number; correct: number; wrong: number; unsolved: number;
+  totalPnl: number; avgPnl: number; maxPnl: number; minPnl: number; accuracy: number;
+};
+type Overview = { list: HistoryList; stats: Stats; all: Stats; buy: Stats; sell: Stats; summary: Summary };
+
+// 목록 + 통계(전체/매수/매도) + 요약을 한 번에 받는다
+async function getOverview(filters: Filters): Promise<Overview> {
+  const url = `/api/history/overview?${qs(filters)}`;
   const res = await fetch(url, { credentials: "include" });
-  if (!res.ok) throw new Error(`stats:${res.status}`);
+  if (!res.ok) throw new Error(`overview:${res.status}`);
   return res.json();
 }
 
-// 고정 성과 요약: 페이지 진입 시 1회만 호출
-async function getSummary(): Promise<{ comment: string }> {
-  const res = await fetch(`/api/history/summary`, { credentials: "include" });
-  if (!res.ok) throw new Error(`summary:${res.status}`);
-  const d = await res.json();
-
-  const buy = await getStats({ from: RANGE_MIN, to: RANGE_MAX, type: "매수", page: 1, size: 1 });
-  const sell = await getStats({ from: RANGE_MIN, to: RANGE_MAX, type: "매도", page: 1, size: 1 });
+// 고정 성과 요약: 페이지 진입 시 전체 기간(RANGE_MIN ~ RANGE_MAX) overview 로 1회만 만든다
+function summaryComment(o: Overview): string {
+  const d = o.summary;
+  const { buy, sell } = o;
 
   const pct = (x: number) => (isFinite(x) ? x * 100 : 0);
   const sign = (x: number) => (x > 0 ? `+${fmt(x, 1)}` : fmt(x, 1));
@@ -72,7 +69,7 @@ async function getSummary(): Promise<{ comment: string }> {
   const line5 = `최대 이익: ${fmt(d.maxPnl ?? 0, 1)}`;
   const line6 = `최대 손실: ${fmt(d.minPnl ?? 0, 1)}`;
 
-  return { comment: [line1, line2, line3, line4, line5, line6].join("\n") };
+  return [line1, line2, line3, line4, line5, line6].join("\n");
 }
 
 // 레전드(라벨 + 건수 + 퍼센트)
@@ -114,6 +111,24 @@ export default function HistoryDashboard() {
   const [loading, setLoading] = useState(false);
   const [err, setErr] = useState<string>("");
 
+  // 요약은 필터와 무관하게 전체 기간으로 마운트 때 한 번만 받는다 (목록은 1건만)
+  useEffect(() => {
+    let alive = true;
+    getOverview({ from: RANGE_MIN, to: RANGE_MAX, type: "", page: 1, size: 1 })
+      .then((o) => {
+        if (alive) setSummary(summaryComment(o));
+      })
+      .catch(() => {
+        if (alive) setSummary("");
+      })
+      .finally(() => {
+        if (alive) setSummaryLoading(false);
+      });
+    return () => {
+      alive = false;
+    };
+  }, []);
+
   useEffect(() => {
     let alive = true;
     setLoading(true);
@@ -121,13 +136,10 @@ export default function HistoryDashboard() {
 
     const t = setTimeout(async () => {
       try {
-        const l = await getHistory(filters);
-        if (!alive) return;
-        setList(l);
-
-        const s = await getStats(filters);
+        const o = await getOverview(filters);
         if (!alive) return;
-        setStats(s);
+        setList(o.list);
+        setStats(o.stats);
       } catch (e: any) {
         if (!alive) return;
         setErr(e?.message || "데이터 불러오기 실패");
@@ -143,24 +155,6 @@ export default function HistoryDashboard() {
     };
   }, [filters.from, filters.to, filters.type, filters.sort, filters.page, filters.size]);
 
-  useEffect(() => {
-    let alive = true;
-    (async () => {
-      try {
-        setSummaryLoading(true);
-        const s = await getSummary();
-        if (!alive) return;
-        setSummary(s.comment || "");
-      } catch {
-        if (!alive) return;
-        setSummary("");
-      } finally {
-        if (alive) setSummaryLoading(false);
-      }
-    })();
-    return () => { alive = false; };
-  }, []);
-
   const accuracyPct = useMemo(
     () => (stats.total - stats.unsolved > 0 ? stats.accuracy * 100 : 0),
     [stats]
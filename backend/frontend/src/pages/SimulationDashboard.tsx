@@ -8,6 +8,8 @@ import "../styles/SimulationDashboard.css";
 
 const DATA_MIN = "2015-01-01";
 const DATA_MAX = "2024-12-31";
+/** 차트 폭에 비해 과한 일별 데이터는 서버에서 LTTB 로 줄여 받는다 */
+const CHART_POINTS = 600;
 
 type Row = {
   date: string;
@@ -77,7 +79,7 @@ export default function SimulationDashboard() {
       new Date(endDate) > new Date(DATA_MAX) ? DATA_MAX :
       new Date(endDate) < new Date(DATA_MIN) ? DATA_MIN : endDate;
 
-    const qs = new URLSearchParams({ to: safeEnd, unit });
+    const qs = new URLSearchParams({ to: safeEnd, unit, points: String(CHART_POINTS) });
     setLoading(true);
     setErr("");
     fetch(`/api/simulation/quotes?${qs.toString()}`, { credentials: "include" })
@@ -0,0 +1,29 @@
+package com.shinhan.backend.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 조건부 GET 처리. 조회 쿼리를 돌리기 전에 호출해서 true 가 나오면
+ * 이미 304 가 설정된 상태이므로 핸들러는 바로 null 을 반환하면 된다.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    public static boolean notModified(ServletWebRequest req, CacheControl cacheControl, String etag) {
+        return notModified(req, cacheControl, etag, -1);
+    }
+
+    public static boolean notModified(ServletWebRequest req, CacheControl cacheControl,
+                                      String etag, long lastModifiedMillis) {
+        // Spring Security 기본 헤더(no-store)는 이미 Cache-Control 이 있으면 덮어쓰지 않는다
+        HttpServletResponse res = req.getResponse();
+        if (res != null) res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return lastModifiedMillis > 0
+                ? req.checkNotModified(etag, lastModifiedMillis)
+                : req.checkNotModified(etag);
+    }
+}
@@ -0,0 +1,21 @@
+package com.shinhan.backend.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마는 classpath:db/migration 의 V*.sql 로 관리한다.
+ * 마이그레이션 도입 전부터 쓰던 DB 는 V1(기존 스키마)을 이미 적용한 것으로 보고 V2 부터 적용한다.
+ * (application.properties 는 저장소에 없으므로 기본값을 여기서 정한다)
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+}
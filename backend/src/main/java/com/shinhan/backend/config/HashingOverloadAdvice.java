@@ -0,0 +1,21 @@
+package com.shinhan.backend.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice
+public class HashingOverloadAdvice {
+
+    // 해시 대기열 초과: 바로 거절하고 1초 뒤 재시도를 권한다
+    @ExceptionHandler(HashingOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> overloaded(HashingOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("ok", false, "message", e.getMessage()));
+    }
+}
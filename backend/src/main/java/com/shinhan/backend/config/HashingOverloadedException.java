@@ -0,0 +1,8 @@
+package com.shinhan.backend.config;
+
+// 비밀번호 해시 대기열이 가득 찼거나 제한 시간 안에 처리하지 못함 → 503 (HashingOverloadAdvice)
+public class HashingOverloadedException extends RuntimeException {
+    public HashingOverloadedException() {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
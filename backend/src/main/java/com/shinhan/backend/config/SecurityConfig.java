@@ -1,5 +1,6 @@
 package com.shinhan.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -54,8 +55,14 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // 해시는 전용 스레드에서만 (BoundedPasswordEncoder). hash-threads 0 이면 코어 수 - 1 (최소 1)
+    // bcrypt-strength 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장된다 (MemberServiceImpl.login)
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:0}") int threads,
+                                           @Value("${security.password.queue-depth:64}") int queueDepth,
+                                           @Value("${security.password.timeout-ms:2000}") long timeoutMs) {
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), n, queueDepth, timeoutMs);
     }
 }
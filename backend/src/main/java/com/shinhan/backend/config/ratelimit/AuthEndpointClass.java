@@ -0,0 +1,51 @@
+package com.shinhan.backend.config.ratelimit;
+
+import java.util.Set;
+
+/**
+ * /api/auth 아래 엔드포인트 묶음과 묶음별 예산. IP 별, 계정별 버킷을 따로 둔다 (계정 예산 0 이면 IP 만).
+ * 계정은 요청 본문의 memberId / memberEmail / email, 없으면 세션의 LOGIN_ID 이다.
+ */
+public enum AuthEndpointClass {
+
+    // 아이디 / 이메일 중복 확인: 요청마다 MEMBERS COUNT(1)
+    LOOKUP(5, 20, 0, 0,
+            "/api/auth/check-id", "/api/auth/check-email"),
+
+    // 인증코드 메일 발송: 메일 + 코드 저장
+    EMAIL(0.5, 5, 1.0 / 30, 3,
+            "/api/auth/email/send"),
+
+    // 비밀번호를 해시하는 요청: 계정 대상 추측 공격도 막는다
+    CREDENTIAL(2, 10, 0.2, 5,
+            "/api/auth/login", "/api/auth/join", "/api/auth/forgotPassword",
+            "/api/auth/updatePassword", "/api/auth/deleteAccount", "/api/auth/email/verify"),
+
+    // 그 밖의 /api/auth (me, logout 등)
+    DEFAULT(20, 50, 0, 0);
+
+    final double ipRate;
+    final int ipBurst;
+    final double accountRate;
+    final int accountBurst;
+    private final Set<String> paths;
+
+    AuthEndpointClass(double ipRate, int ipBurst, double accountRate, int accountBurst, String... paths) {
+        this.ipRate = ipRate;
+        this.ipBurst = ipBurst;
+        this.accountRate = accountRate;
+        this.accountBurst = accountBurst;
+        this.paths = Set.of(paths);
+    }
+
+    boolean limitsAccounts() {
+        return accountRate > 0;
+    }
+
+    static AuthEndpointClass of(String path) {
+        for (AuthEndpointClass c : values()) {
+            if (c.paths.contains(path)) return c;
+        }
+        return DEFAULT;
+    }
+}
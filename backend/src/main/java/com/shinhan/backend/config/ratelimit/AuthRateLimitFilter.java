@@ -0,0 +1,118 @@
+package com.shinhan.backend.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/auth/** 요청 제한. 엔드포인트 묶음(AuthEndpointClass)마다 IP 버킷과 계정 버킷을 따로 두고,
+ * 어느 하나라도 비었으면 컨트롤러까지 가지 않고 429 + Retry-After(초)로 끝낸다.
+ * IP 는 getRemoteAddr (프록시 뒤라면 server.forward-headers-strategy 로 풀어 둔 값).
+ * 경로는 MVC 가 매핑에 쓰는 것과 같은 값(컨텍스트 경로를 뺀, 디코딩된 경로)으로 나눈다.
+ * getRequestURI 그대로 보면 /api/auth/%6Cogin 같은 인코딩된 경로가 login 으로 가면서 DEFAULT 예산만 받는다.
+ * 계정 키를 보기 위해 작은 JSON 본문(MAX_BODY 이하)은 미리 읽어 두고 컨트롤러가 다시 읽을 수 있게 넘긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/api/auth/";
+    private static final int MAX_BODY = 4_096;
+    private static final Duration IDLE = Duration.ofMinutes(10);
+    private static final String[] ACCOUNT_FIELDS = {"memberId", "memberEmail", "email"};
+
+    private final ObjectMapper objectMapper;
+    private final Map<AuthEndpointClass, RateLimiter> byIp = new EnumMap<>(AuthEndpointClass.class);
+    private final Map<AuthEndpointClass, RateLimiter> byAccount = new EnumMap<>(AuthEndpointClass.class);
+    private final Map<AuthEndpointClass, Counter> rejected = new EnumMap<>(AuthEndpointClass.class);
+
+    public AuthRateLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${auth.rate-limit.max-keys:100000}") long maxKeys) {
+        this.objectMapper = objectMapper;
+        for (AuthEndpointClass c : AuthEndpointClass.values()) {
+            byIp.put(c, new RateLimiter(c.ipRate, c.ipBurst, maxKeys, IDLE));
+            if (c.limitsAccounts()) byAccount.put(c, new RateLimiter(c.accountRate, c.accountBurst, maxKeys, IDLE));
+            rejected.put(c, meterRegistry.counter("auth.ratelimit.rejected", "class", c.name()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).startsWith(PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AuthEndpointClass c = AuthEndpointClass.of(path(request));
+
+        long wait = byIp.get(c).tryAcquire(request.getRemoteAddr());
+        if (wait == 0 && c.limitsAccounts()) {
+            CachedBodyRequest cached = CachedBodyRequest.of(request, MAX_BODY);
+            request = cached;
+            String account = account(cached);
+            if (account != null) wait = byAccount.get(c).tryAcquire(account);
+        }
+        if (wait > 0) {
+            reject(response, c, wait);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+
+    private String account(CachedBodyRequest request) {
+        byte[] body = request.body();
+        if (body.length > 0) {
+            try {
+                JsonNode json = objectMapper.readTree(body);
+                for (String field : ACCOUNT_FIELDS) {
+                    JsonNode v = json.get(field);
+                    if (v != null && v.isTextual() && !v.asText().isBlank()) {
+                        return field + ":" + v.asText().trim().toLowerCase(Locale.ROOT);
+                    }
+                }
+            } catch (IOException e) {
+                // JSON 이 아니면 컨트롤러가 400 을 낸다. 여기서는 IP 제한만 적용
+            }
+        }
+        HttpSession session = request.getSession(false);
+        Object id = session == null ? null : session.getAttribute("LOGIN_ID");
+        return id == null ? null : "memberId:" + id.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private void reject(HttpServletResponse response, AuthEndpointClass c, long waitNanos) throws IOException {
+        rejected.get(c).increment();
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"ok\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}");
+    }
+}
@@ -0,0 +1,137 @@
+package com.shinhan.backend.config.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 본문 앞부분(limit 바이트까지)을 미리 읽어 두고, 뒤에서 다시 읽을 때는 읽은 부분 + 남은 스트림을 이어 준다.
+ * 본문이 limit 보다 길면 body() 는 비어 있다 (계정 키 없이 IP 제한만).
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] head;
+    private final boolean complete;
+    private boolean consumed;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) {
+        super(request);
+        this.head = head;
+        this.complete = complete;
+    }
+
+    static CachedBodyRequest of(HttpServletRequest request, int limit) throws IOException {
+        if (request instanceof CachedBodyRequest c) return c;
+        InputStream in = request.getInputStream();
+        byte[] head = in.readNBytes(limit + 1);
+        boolean complete = head.length <= limit;
+        return new CachedBodyRequest(request, head, complete);
+    }
+
+    byte[] body() {
+        return complete ? head : new byte[0];
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (consumed) throw new IllegalStateException("body already read");
+        consumed = true;
+        return new Replay(head, complete ? null : super.getInputStream());
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String enc = getCharacterEncoding();
+        Charset cs = enc == null ? StandardCharsets.UTF_8 : Charset.forName(enc);
+        return new BufferedReader(new InputStreamReader(getInputStream(), cs));
+    }
+
+    /**
+     * head 를 먼저 돌려주고, rest 가 있으면 이어서 원래 스트림을 읽는다.
+     * 비동기 읽기(setReadListener)도 지원한다: 본문 전체가 head 에 있으면 바로 onDataAvailable / onAllDataRead 를 부르고,
+     * 아니면 원래 스트림에 리스너를 걸되 onAllDataRead 전에 남은 head 를 먼저 읽게 한다.
+     */
+    private static final class Replay extends ServletInputStream {
+        private final byte[] head;
+        private final ServletInputStream rest;   // null 이면 head 가 본문 전체
+        private int pos;
+
+        Replay(byte[] head, ServletInputStream rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        private boolean headLeft() {
+            return pos < head.length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (headLeft()) return head[pos++] & 0xff;
+            return rest == null ? -1 : rest.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) return 0;
+            if (headLeft()) {
+                int n = Math.min(len, head.length - pos);
+                System.arraycopy(head, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+            return rest == null ? -1 : rest.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return !headLeft() && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return headLeft() || rest == null || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            Objects.requireNonNull(listener, "listener");
+            if (rest != null) {
+                rest.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        listener.onDataAvailable();
+                    }
+
+                    @Override
+                    public void onAllDataRead() throws IOException {
+                        if (headLeft()) listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        listener.onError(t);
+                    }
+                });
+                return;
+            }
+            try {
+                if (headLeft()) listener.onDataAvailable();
+                listener.onAllDataRead();
+            } catch (IOException | RuntimeException e) {
+                listener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.shinhan.backend.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA 방식). 초당 ratePerSecond 개가 채워지고 최대 burst 개까지 모인다.
+ * 버킷 상태는 "다음 토큰이 비는 이론상 시각(TAT)" long 하나라 AtomicLong CAS 한 번으로 갱신되며 락이 없다.
+ * 키 → 상태는 Caffeine 에 두어 항목 수가 maxKeys 로 묶이고, idle 동안 안 쓰인 키는 빠진다
+ * (빠진 키는 가득 찬 버킷으로 다시 시작하므로 idle 은 버킷이 다 차는 시간보다 길게 잡는다).
+ */
+public final class RateLimiter {
+
+    private final long emissionNanos;   // 토큰 하나가 채워지는 간격
+    private final long toleranceNanos;  // burst 만큼 앞당겨 쓸 수 있는 폭
+    private final LongSupplier clock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(double ratePerSecond, int burst, long maxKeys, Duration idle) {
+        this(ratePerSecond, burst, maxKeys, idle, System::nanoTime);
+    }
+
+    RateLimiter(double ratePerSecond, int burst, long maxKeys, Duration idle, LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst < 1) throw new IllegalArgumentException("rate > 0, burst >= 1");
+        this.emissionNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.toleranceNanos = emissionNanos * (burst - 1);
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+    }
+
+    /** 토큰 하나를 쓴다. 쓸 수 있으면 0, 아니면 다음 토큰까지 기다려야 하는 나노초 */
+    public long tryAcquire(String key) {
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = clock.getAsLong();
+        while (true) {
+            long cur = tat.get();
+            long start = Math.max(cur, now);
+            long next = start + emissionNanos;
+            long wait = next - now - toleranceNanos - emissionNanos;
+            if (wait > 0) return wait;
+            if (tat.compareAndSet(cur, next)) return 0;
+        }
+    }
+
+    long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,64 @@
+package com.shinhan.backend.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shinhan.backend.member.domain.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * memberId → 회원(권한 포함) 캐시. 항목 수와 TTL 이 모두 제한되어 있어 오래된 회원 정보가 남아도 ttl 안에 다시 읽는다.
+ * 비밀번호 / 활성 상태가 바뀌는 경로(updatePassword, forgotPassword, deleteAccount)는 invalidate 를 불러야 한다.
+ * 없는 회원(null)은 담지 않는다.
+ * 키는 trim + 소문자로 맞춘다. MEMBER_ID 컬럼은 대소문자/뒤 공백을 무시하므로 "Alice ", "alice" 는 같은 행이고,
+ * 키가 다르면 invalidate 가 다른 표기로 담긴 항목을 놓쳐 옛 비밀번호 해시가 ttl 동안 남는다.
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final Cache<String, Member> members;
+
+    public MemberPrincipalCache(MeterRegistry meterRegistry,
+                                @Value("${member.principal-cache.max-size:10000}") long maxSize,
+                                @Value("${member.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "member.principal");
+    }
+
+    public Member get(String memberId, Function<String, Member> loader) {
+        return members.get(key(memberId), k -> loader.apply(memberId));
+    }
+
+    /**
+     * 지금 버리고, 트랜잭션 안이면 커밋 뒤에 한 번 더 버린다.
+     * (커밋 전에 다른 요청이 옛 값을 다시 읽어 담아 두는 경우까지 막는다)
+     */
+    public void invalidate(String memberId) {
+        String key = key(memberId);
+        members.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    members.invalidate(key);
+                }
+            });
+        }
+    }
+
+    static String key(String memberId) {
+        return memberId.trim().toLowerCase(Locale.ROOT);
+    }
+}
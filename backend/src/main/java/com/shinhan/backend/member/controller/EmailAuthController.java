@@ -5,6 +5,8 @@ import com.shinhan.backend.member.dto.SendEmailCodeRequestDto;
 import com.shinhan.backend.member.dto.VerifyEmailCodeRequestDto;
 import com.shinhan.backend.member.service.EmailVerificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,7 +20,14 @@ public class EmailAuthController {
 
     @PostMapping("/send")
     public ResponseEntity<Map<String, Boolean>> send(@RequestBody SendEmailCodeRequestDto req){
-        svc.sendCode(req.getMemberEmail());
+        try {
+            svc.sendCode(req.getMemberEmail());
+        } catch (IllegalStateException e) {
+            // 인증코드 저장 공간이 가득 참 (가입 폭주)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "10")
+                    .body(Map.of("ok", false));
+        }
         return ResponseEntity.ok(Map.of("ok", true)); // 프런트가 JSON 파싱
     }
 
@@ -1,6 +1,7 @@
 // src/main/java/com/shinhan/backend/controller/member/MemberController.java
 package com.shinhan.backend.member.controller;
 
+import com.shinhan.backend.config.HashingOverloadedException;
 import com.shinhan.backend.member.dto.*;
 import com.shinhan.backend.member.service.MemberService;
 import jakarta.servlet.http.HttpSession;
@@ -35,7 +36,7 @@ public class MemberController {
         session.setAttribute(LOGIN_ID, dto.getMemberId());
         session.setAttribute(LOGIN_NO, dto.getMemberNo());
 
-        memberService.updateLastLogin(dto.getMemberId());
+        memberService.updateLastLogin(dto.getMemberNo());
 
         // 프런트 응답은 DTO 그대로
         return ResponseEntity.ok(dto);
@@ -77,6 +78,8 @@ public class MemberController {
             return ResponseEntity.ok(Map.of("ok", true));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("ok", false, "message", e.getMessage()));
+        } catch (HashingOverloadedException e) {
+            throw e;   // 503 (HashingOverloadAdvice)
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("ok", false, "message", "서버 오류"));
         }
@@ -100,6 +103,8 @@ public class MemberController {
             return ResponseEntity.ok(Map.of("ok", true));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("ok", false, "message", e.getMessage()));
+        } catch (HashingOverloadedException e) {
+            throw e;   // 503 (HashingOverloadAdvice)
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("ok", false, "message", "서버 오류"));
         }
@@ -117,6 +122,8 @@ public class MemberController {
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("ok", false, "message", e.getMessage()));
+        } catch (HashingOverloadedException e) {
+            throw e;   // 503 (HashingOverloadAdvice)
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("ok", false, "message", "서버 오류"));
         }
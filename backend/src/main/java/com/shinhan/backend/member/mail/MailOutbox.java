@@ -0,0 +1,209 @@
+package com.shinhan.backend.member.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 대기열. 요청 스레드는 enqueue 만 하고, SMTP 는 워커 스레드 workers 개가 맡는다.
+ * - 트랜잭션 안에서 부르면 커밋된 뒤에만 대기열에 넣는다 (롤백되면 보내지 않음)
+ * - 워커는 대기열에서 batch-size 개까지 꺼내 SMTP 연결 하나로 보낸다
+ * - 실패한 메일은 backoff-ms x 2^(시도-1) 뒤에 다시 넣고, max-attempts 번 실패하면 버린다
+ * - onSent 를 넘기면 SMTP 가 받아들인 뒤에만 워커 스레드에서 부른다 (버려진 메일은 부르지 않음)
+ * 지표: mail.outbox.queue(대기 수), mail.send(배치 발송 시간), mail.outbox.sent / retried / dropped
+ */
+@Slf4j
+@Component
+public class MailOutbox {
+
+    private final JavaMailSender mailSender;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    private final BlockingQueue<Envelope> queue;
+    private final ScheduledExecutorService retries;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Timer sendTimer;
+    private final Counter sent, retried, dropped;
+
+    public MailOutbox(JavaMailSender mailSender, MeterRegistry meterRegistry,
+                      @Value("${mail.outbox.workers:2}") int workers,
+                      @Value("${mail.outbox.capacity:10000}") int capacity,
+                      @Value("${mail.outbox.batch-size:20}") int batchSize,
+                      @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                      @Value("${mail.outbox.backoff-ms:1000}") long backoffMs) {
+        this.mailSender = mailSender;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.retries = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "mail-outbox-retry");
+            t.setDaemon(true);
+            return t;
+        });
+
+        Gauge.builder("mail.outbox.queue", queue, BlockingQueue::size).register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.send").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.sent = meterRegistry.counter("mail.outbox.sent");
+        this.retried = meterRegistry.counter("mail.outbox.retried");
+        this.dropped = meterRegistry.counter("mail.outbox.dropped");
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < workers; i++) {
+            Thread t = new Thread(this::run, "mail-outbox-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+            threads.add(t);
+        }
+    }
+
+    /** 트랜잭션 안이면 커밋 뒤에, 아니면 바로 대기열에 넣는다 */
+    public void enqueue(SimpleMailMessage message) {
+        enqueue(message, null);
+    }
+
+    /** enqueue 와 같고, 발송에 성공하면 onSent 를 부른다 */
+    public void enqueue(SimpleMailMessage message, Runnable onSent) {
+        Envelope env = new Envelope(message, 1, onSent);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(env);
+                }
+            });
+        } else {
+            offer(env);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void offer(Envelope env) {
+        if (!running || !queue.offer(env)) {
+            dropped.increment();
+            log.error("mail outbox full or stopped, dropping mail to {}", (Object) env.message.getTo());
+        }
+    }
+
+    private void run() {
+        List<Envelope> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Envelope> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < messages.length; i++) messages[i] = batch.get(i).message;
+
+        long t0 = System.nanoTime();
+        try {
+            // 배열로 넘기면 JavaMailSenderImpl 이 연결 하나로 모두 보낸다
+            mailSender.send(messages);
+            sent.increment(messages.length);
+            for (Envelope env : batch) delivered(env);
+        } catch (MailSendException e) {
+            // 메일별 실패가 있으면 그것만, 없으면(연결 실패 등) 배치 전체를 다시 시도
+            Map<Object, Exception> failed = e.getFailedMessages();
+            int ok = 0;
+            for (Envelope env : batch) {
+                if (failed.isEmpty() || failed.containsKey(env.message)) {
+                    retry(env, e);
+                } else {
+                    ok++;
+                    delivered(env);
+                }
+            }
+            sent.increment(ok);
+        } catch (RuntimeException e) {
+            for (Envelope env : batch) retry(env, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void delivered(Envelope env) {
+        if (env.onSent == null) return;
+        try {
+            env.onSent.run();
+        } catch (RuntimeException e) {
+            log.error("mail to {} sent but onSent failed", (Object) env.message.getTo(), e);
+        }
+    }
+
+    private void retry(Envelope env, Exception cause) {
+        if (env.attempt >= maxAttempts || !running) {
+            dropped.increment();
+            log.error("mail to {} dropped after {} attempts", (Object) env.message.getTo(), env.attempt, cause);
+            return;
+        }
+        retried.increment();
+        long delay = backoffMs << (env.attempt - 1);
+        log.warn("mail to {} failed (attempt {}), retrying in {} ms: {}",
+                (Object) env.message.getTo(), env.attempt, delay, cause.getMessage());
+        Envelope next = new Envelope(env.message, env.attempt + 1, env.onSent);
+        retries.schedule(() -> offer(next), delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 이미 대기열에 있는 것은 보내고 내려간다 (재시도 대기 중인 것은 버린다)
+        running = false;
+        retries.shutdownNow();
+        for (Thread t : threads) t.join(TimeUnit.SECONDS.toMillis(10));
+        if (!queue.isEmpty()) log.error("mail outbox: {} mails not sent at shutdown", queue.size());
+    }
+
+    private static final class Envelope {
+        final SimpleMailMessage message;
+        final int attempt;
+        final Runnable onSent;
+
+        Envelope(SimpleMailMessage message, int attempt, Runnable onSent) {
+            this.message = message;
+            this.attempt = attempt;
+            this.onSent = onSent;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.shinhan.backend.member.mapper;
 
 import com.shinhan.backend.member.domain.Member;
 import com.shinhan.backend.member.domain.MemberAuth;
+import com.shinhan.backend.member.writebehind.LastLogin;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import java.util.List;
@@ -16,15 +17,15 @@ public interface MemberMapper {
     Member findById(@Param("memberId") String memberId);
     List<MemberAuth> findAuthsByMemberId(@Param("memberId") String memberId);
 
-    int updateLastLogin(@Param("memberId") String memberId);
+    // 여러 회원의 마지막 로그인을 UPDATE 한 번으로 (LastLoginWriteBehind)
+    int updateLastLoginBatch(@Param("rows") List<LastLogin> rows);
 
     int checkId(@Param("memberId") String memberId);
 
     int checkEmail(@Param("memberEmail") String memberEmail);
 
-    int forgotPassword(@Param("memberId") String memberId,
-                       @Param("memberEmail") String memberEmail,
-                       @Param("memberPwd") String memberPwd);
+    String selectPasswordForReset(@Param("memberId") String memberId,
+                                  @Param("memberEmail") String memberEmail);
 
     String selectPassword(@Param("memberId") String memberId);
 
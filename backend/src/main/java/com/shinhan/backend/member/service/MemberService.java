@@ -10,7 +10,7 @@ import com.shinhan.backend.member.dto.SignupResponseDto;
 public interface MemberService {
     SignupResponseDto join(SignupRequestDto req, String defaultRole);              // 회원가입 + 권한
     LoginResponseDto login(LoginRequestDto req);    // 로그인 검증
-    void updateLastLogin(String memberId);                // 마지막 로그인 갱신
+    void updateLastLogin(int memberNo);                   // 마지막 로그인 갱신 (모아서 나중에 기록)
     boolean checkId(String memberId);             // 아이디 중복 체크
     boolean checkEmail(String memberEmail);
     void forgotPassword(String memberId, String memberEmail);
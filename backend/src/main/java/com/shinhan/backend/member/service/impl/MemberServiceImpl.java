@@ -1,29 +1,35 @@
 // src/main/java/com/shinhan/backend/service/impl/MemberServiceImpl.java
 package com.shinhan.backend.member.service.impl;
 
+import com.shinhan.backend.config.HashingOverloadedException;
+import com.shinhan.backend.member.cache.MemberPrincipalCache;
 import com.shinhan.backend.member.domain.Member;
 import com.shinhan.backend.member.domain.MemberAuth;
 import com.shinhan.backend.member.dto.LoginRequestDto;
 import com.shinhan.backend.member.dto.LoginResponseDto;
 import com.shinhan.backend.member.dto.SignupRequestDto;
 import com.shinhan.backend.member.dto.SignupResponseDto;
+import com.shinhan.backend.member.mail.MailOutbox;
 import com.shinhan.backend.member.mapper.MemberMapper;
 import com.shinhan.backend.member.service.MemberService;
+import com.shinhan.backend.member.writebehind.LastLoginWriteBehind;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
     private final MemberMapper memberMapper;
     private final PasswordEncoder encoder;
-    private final JavaMailSender mailSender;
+    private final MailOutbox mailOutbox;
+    private final LastLoginWriteBehind lastLogins;
+    private final MemberPrincipalCache principals;
 
     @Override
     @Transactional
@@ -51,7 +57,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public LoginResponseDto login(LoginRequestDto req) {
-        Member member = memberMapper.findById(req.getMemberId());
+        // 회원 + 권한을 조인 한 번으로 읽고, 짧게 캐시해 반복 로그인은 DB 를 거치지 않는다
+        Member member = principals.get(req.getMemberId(), memberMapper::findById);
         if (member == null) {
             throw new RuntimeException("존재하지 않는 사용자");
         }
@@ -59,6 +66,7 @@ public class MemberServiceImpl implements MemberService {
         if (!encoder.matches(req.getMemberPwd(), member.getMemberPwd())) {
             throw new RuntimeException("비밀번호 불일치");
         }
+        rehashIfOutdated(member, req.getMemberPwd());
 
         return new LoginResponseDto(
                 member.getMemberNo(),
@@ -70,8 +78,9 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public void updateLastLogin(String memberId) {
-        memberMapper.updateLastLogin(memberId);
+    public void updateLastLogin(int memberNo) {
+        // 로그인 요청 안에서는 메모리에만 기록하고, DB 에는 LastLoginWriteBehind 가 주기적으로 모아서 쓴다
+        lastLogins.record(memberNo, LocalDateTime.now());
     }
 
     @Override
@@ -97,17 +106,21 @@ public class MemberServiceImpl implements MemberService {
         final String id = memberId.trim();
         final String email = memberEmail.trim().toLowerCase(java.util.Locale.ROOT);
 
+        String oldHash = memberMapper.selectPasswordForReset(id, email);
+        if (oldHash == null) throw new IllegalArgumentException("아이디 또는 이메일 불일치");
+
         String tempPassword    = generatePassword(12);
         String encodedPassword = encoder.encode(tempPassword);
 
-        int updated = memberMapper.forgotPassword(id, email, encodedPassword);
-        if (updated == 0) throw new IllegalArgumentException("아이디 또는 이메일 불일치");
-
-        var msg = new org.springframework.mail.SimpleMailMessage();
+        var msg = new SimpleMailMessage();
         msg.setTo(email);
         msg.setSubject("임시 비밀번호 안내");
         msg.setText("임시 비밀번호: " + tempPassword + "\n로그인 후 반드시 비밀번호를 변경하세요.");
-        mailSender.send(msg);
+        // 메일이 실제로 나간 뒤에만 임시 비밀번호로 바꾼다. 메일이 버려지면 기존 비밀번호가 그대로 살아 있다.
+        // 그 사이 사용자가 비밀번호를 바꿨다면 oldHash 가 달라 UPDATE 되지 않는다.
+        mailOutbox.enqueue(msg, () -> {
+            if (memberMapper.updatePassword(id, oldHash, encodedPassword) > 0) principals.invalidate(id);
+        });
     }
 
 
@@ -131,6 +144,7 @@ public class MemberServiceImpl implements MemberService {
         String newHash = encoder.encode(newPwd);
         int rows = memberMapper.updatePassword(id, oldHash, newHash);
         if (rows == 0) throw new IllegalStateException("비밀번호가 변경되었습니다. 다시 시도하세요.");
+        principals.invalidate(id);
     }
 
 
@@ -148,9 +162,24 @@ public class MemberServiceImpl implements MemberService {
         }
         int rows = memberMapper.deleteMember(id, storedHash); // 동시성 보호
         if (rows == 0) throw new IllegalStateException("처리 대상이 없습니다.");
+        principals.invalidate(id);
     }
 
 
+    // 설정된 BCrypt cost 가 바뀌었으면 방금 확인한 평문으로 새 해시를 만들어 저장한다.
+    // 해시 스레드가 바쁘면 이번에는 건너뛴다 (다음 로그인 때 다시 시도). 로그인 자체는 실패시키지 않는다
+    private void rehashIfOutdated(Member member, String rawPassword) {
+        if (!encoder.upgradeEncoding(member.getMemberPwd())) return;
+        try {
+            String upgraded = encoder.encode(rawPassword);
+            if (memberMapper.updatePassword(member.getMemberId(), member.getMemberPwd(), upgraded) > 0) {
+                principals.invalidate(member.getMemberId());
+            }
+        } catch (HashingOverloadedException e) {
+            // 다음 기회에
+        }
+    }
+
     private String generatePassword(int length) {
         String chars = "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz23456789!@#$%^&*?";
         SecureRandom rnd = new SecureRandom();
@@ -0,0 +1,114 @@
+package com.shinhan.backend.member.verification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 메모리 인증코드 저장소.
+ * TTL 이 모든 항목에 같으므로 발급 순서 = 만료 순서이다. 발급할 때마다 만료 큐 끝에 붙이고, 큐 앞에서
+ * 만료된 것만 떼어 내면 되므로 만료 처리는 항목당 O(1) 이고 전체를 훑지 않는다.
+ * 큐 길이(재발급으로 밀려난 옛 항목 포함)가 max-entries 를 넘으면 발급을 거절하므로 가입 폭주에도 메모리가 묶인다.
+ */
+@Slf4j
+@Component
+public class InMemoryVerificationStore implements VerificationStore {
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<Entry> expiry = new ArrayDeque<>();   // 발급 순 (= 만료 순), expiry 락으로 보호
+
+    @Autowired
+    public InMemoryVerificationStore(@Value("${member.verification.max-entries:100000}") int maxEntries) {
+        this(maxEntries, System::currentTimeMillis);
+    }
+
+    InMemoryVerificationStore(int maxEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public IssueResult issue(String email, byte[] codeMac, long ttlMs, long cooldownMs) {
+        long now = clock.getAsLong();
+        synchronized (expiry) {
+            expire(now);
+            Entry prev = entries.get(email);
+            if (prev != null && now - prev.issuedAt < cooldownMs) return IssueResult.COOLDOWN;
+            if (expiry.size() >= maxEntries) {
+                log.warn("verification store full ({} entries), rejecting new code", expiry.size());
+                return IssueResult.FULL;
+            }
+            Entry e = new Entry(email, codeMac, now, now + ttlMs);
+            entries.put(email, e);
+            expiry.addLast(e);
+            return IssueResult.ISSUED;
+        }
+    }
+
+    @Override
+    public VerifyResult verify(String email, byte[] codeMac, int maxAttempts) {
+        long now = clock.getAsLong();
+        Entry e = entries.get(email);
+        if (e == null || now >= e.expiresAt) return VerifyResult.MISSING;
+        synchronized (e) {
+            if (e.used) return VerifyResult.MISSING;
+            if (e.attempts >= maxAttempts) return VerifyResult.LOCKED;
+            if (MessageDigest.isEqual(e.codeMac, codeMac)) {
+                e.used = true;
+                return VerifyResult.OK;
+            }
+            e.attempts++;
+            return e.attempts >= maxAttempts ? VerifyResult.LOCKED : VerifyResult.WRONG;
+        }
+    }
+
+    // 발급이 뜸할 때도 만료 항목이 오래 남지 않도록
+    @Scheduled(fixedDelayString = "${member.verification.sweep-ms:10000}")
+    void sweep() {
+        synchronized (expiry) {
+            expire(clock.getAsLong());
+        }
+    }
+
+    int size() {
+        synchronized (expiry) {
+            return expiry.size();
+        }
+    }
+
+    // 큐 앞에서 만료된 항목만 떼어 낸다. 재발급으로 이미 바뀐 이메일은 맵에서 지우지 않는다
+    private void expire(long now) {
+        Entry head;
+        while ((head = expiry.peekFirst()) != null && head.expiresAt <= now) {
+            expiry.pollFirst();
+            entries.remove(head.email, head);
+        }
+    }
+
+    private static final class Entry {
+        final String email;
+        final byte[] codeMac;
+        final long issuedAt;
+        final long expiresAt;
+        int attempts;      // this 로 보호
+        boolean used;
+
+        Entry(String email, byte[] codeMac, long issuedAt, long expiresAt) {
+            this.email = email;
+            this.codeMac = codeMac;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.shinhan.backend.member.verification;
+
+/**
+ * 이메일 인증코드 저장소. 코드 자체가 아닌 키 있는 HMAC 값만 받는다.
+ * 각 연산은 원자적이어야 한다 (발급 쿨다운 확인과 저장, 시도 횟수 증가와 비교).
+ * 기본 구현은 노드 메모리(InMemoryVerificationStore)이고, 여러 노드가 같은 상태를 봐야 하면
+ * 공유 저장소 구현을 @Primary 빈으로 등록한다 (HMAC 키도 노드 간에 같아야 한다: member.verification.hmac-key).
+ */
+public interface VerificationStore {
+
+    enum IssueResult { ISSUED, COOLDOWN, FULL }
+
+    enum VerifyResult { OK, WRONG, LOCKED, MISSING }
+
+    /**
+     * 새 코드를 저장한다 (같은 이메일의 이전 코드와 시도 횟수는 덮어쓴다).
+     * 직전 발급이 cooldownMs 안이면 COOLDOWN, 저장 공간이 차 있으면 FULL.
+     */
+    IssueResult issue(String email, byte[] codeMac, long ttlMs, long cooldownMs);
+
+    /**
+     * 코드를 확인한다. 틀릴 때마다 시도 횟수가 오르고 maxAttempts 번째부터는 LOCKED.
+     * 한 번 OK 가 나온 코드는 다시 쓸 수 없다 (MISSING). 만료된 코드도 MISSING.
+     */
+    VerifyResult verify(String email, byte[] codeMac, int maxAttempts);
+}
@@ -0,0 +1,14 @@
+package com.shinhan.backend.member.writebehind;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 회원 한 명의 마지막 로그인 시각 (LastLoginWriteBehind → updateLastLoginBatch)
+@Getter
+@RequiredArgsConstructor
+public class LastLogin {
+    private final int memberNo;
+    private final LocalDateTime at;
+}
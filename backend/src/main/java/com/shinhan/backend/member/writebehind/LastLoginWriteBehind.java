@@ -0,0 +1,80 @@
+package com.shinhan.backend.member.writebehind;
+
+import com.shinhan.backend.member.mapper.MemberMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각을 메모리에 모아 두었다가 flush-ms 마다 UPDATE 한 번(batch-size 명씩)으로 쓴다.
+ * 같은 회원이 그 사이 여러 번 로그인하면 가장 늦은 시각 하나만 남는다.
+ * 쓰기에 실패한 시각은 되돌려 놓고 다음 주기에 다시 쓰며, 종료 시 남은 것을 모두 쓴다.
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBehind {
+
+    private final MemberMapper mapper;
+    private final int batchSize;
+
+    private final Map<Integer, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginWriteBehind(MemberMapper mapper,
+                                @Value("${member.last-login.batch-size:500}") int batchSize) {
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    public void record(int memberNo, LocalDateTime at) {
+        pending.merge(memberNo, at, LastLoginWriteBehind::later);
+    }
+
+    public int pending() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${member.last-login.flush-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        // 키를 하나씩 떼어 낸다. 떼어 낸 뒤 들어온 로그인은 다음 주기에 쓴다
+        List<LastLogin> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Integer memberNo : pending.keySet()) {
+            LocalDateTime at = pending.remove(memberNo);
+            if (at == null) continue;
+            batch.add(new LastLogin(memberNo, at));
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) write(batch);
+    }
+
+    private void write(List<LastLogin> batch) {
+        try {
+            mapper.updateLastLoginBatch(batch);
+        } catch (RuntimeException e) {
+            log.warn("last-login flush of {} members failed, will retry", batch.size(), e);
+            for (LastLogin l : batch) record(l.getMemberNo(), l.getAt());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        if (!pending.isEmpty()) log.error("last-login: {} members not written at shutdown", pending.size());
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,18 @@
+package com.shinhan.backend.simulation.analysis;
+
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 지표 조회 결과. columns 의 배열은 스냅샷 전체 길이 이상이며, slice 의 인덱스로 읽는다.
+ * 배열은 캐시와 공유하므로 수정하면 안 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IndicatorColumns {
+    private final QuoteSlice slice;
+    private final Map<String, double[]> columns;   // 컬럼 이름 → 값 (요청 순서 유지)
+}
@@ -0,0 +1,63 @@
+package com.shinhan.backend.simulation.analysis;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 지표 하나와 파라미터. "sma:20", "ema:50", "rsi:14", "bb:20:2", "vol:20" 형식으로 받는다.
+ * key() 는 캐시 키이자 응답 컬럼 이름의 접두어 (예: bb_20_2_upper).
+ */
+@Getter
+public final class IndicatorSpec {
+
+    public static final int MAX_PERIOD = 1000;
+
+    private final IndicatorType type;
+    private final int period;
+    private final double k;          // 볼린저 밴드 폭 (표준편차 배수). 다른 지표는 0
+    private final String key;
+
+    private IndicatorSpec(IndicatorType type, int period, double k) {
+        this.type = type;
+        this.period = period;
+        this.k = k;
+        this.key = type.getCode() + "_" + period
+                + (type == IndicatorType.BOLLINGER ? "_" + formatK(k) : "");
+    }
+
+    /** 형식이 틀리거나 범위를 벗어나면 IllegalArgumentException */
+    public static IndicatorSpec parse(String s) {
+        String[] p = s.trim().toLowerCase(Locale.ROOT).split(":");
+        IndicatorType type = IndicatorType.byCode(p[0]);
+        int period = p.length > 1 ? Integer.parseInt(p[1]) : type.getDefaultPeriod();
+        if (period < 2 || period > MAX_PERIOD) {
+            throw new IllegalArgumentException("지표 기간은 2 ~ " + MAX_PERIOD + " 사이여야 합니다: " + s);
+        }
+        double k = 0;
+        if (type == IndicatorType.BOLLINGER) {
+            k = p.length > 2 ? Double.parseDouble(p[2]) : 2.0;
+            if (!(k > 0 && k <= 10)) throw new IllegalArgumentException("볼린저 밴드 배수는 0 초과 10 이하여야 합니다: " + s);
+        } else if (p.length > 2) {
+            throw new IllegalArgumentException("지원하지 않는 지표 파라미터입니다: " + s);
+        }
+        return new IndicatorSpec(type, period, k);
+    }
+
+    /** 응답 컬럼 이름들. 출력이 하나인 지표는 key 그대로 */
+    public String[] columnNames() {
+        String[] suffixes = type.getOutputs();
+        if (suffixes.length == 1) return new String[]{key};
+        String[] names = new String[suffixes.length];
+        for (int i = 0; i < names.length; i++) names[i] = key + "_" + suffixes[i];
+        return names;
+    }
+
+    public IndicatorState newState() {
+        return IndicatorState.of(this);
+    }
+
+    private static String formatK(double k) {
+        return k == Math.rint(k) ? Integer.toString((int) k) : Double.toString(k).replace('.', 'p');
+    }
+}
@@ -0,0 +1,271 @@
+package com.shinhan.backend.simulation.analysis;
+
+/**
+ * 지표 하나의 슬라이딩 윈도 상태. 값을 하나씩 push 하면 그 시점의 지표값을 out[c][i] 에 쓴다.
+ * 한 점당 O(1) 이므로 새 시세일이 붙으면 이어서 push 만 하면 된다 (처음부터 다시 계산하지 않음).
+ * 종가가 NaN 인 날은 출력도 NaN 이고 윈도에 넣지 않는다. 윈도가 덜 찬 구간도 NaN.
+ * 스레드 안전하지 않다. 호출하는 쪽이 한 번에 한 스레드만 쓰도록 보장해야 한다.
+ */
+public abstract class IndicatorState {
+
+    private static final double TRADING_DAYS = 252;
+
+    static IndicatorState of(IndicatorSpec spec) {
+        switch (spec.getType()) {
+            case SMA:
+                return new Sma(spec.getPeriod());
+            case EMA:
+                return new Ema(spec.getPeriod());
+            case RSI:
+                return new Rsi(spec.getPeriod());
+            case BOLLINGER:
+                return new Bollinger(spec.getPeriod(), spec.getK());
+            default:
+                return new Volatility(spec.getPeriod());
+        }
+    }
+
+    /** 지금까지 push 한 점의 개수 */
+    public abstract int count();
+
+    public abstract void push(double x, double[][] out, int i);
+
+    /** [from, to) 를 차례로 push */
+    public void pushAll(double[] xs, int from, int to, double[][] out) {
+        for (int i = from; i < to; i++) push(xs[i], out, i);
+    }
+
+    private static void writeNaN(double[][] out, int i) {
+        for (double[] col : out) col[i] = Double.NaN;
+    }
+
+    /**
+     * 고정 길이 링 버퍼 + 합/제곱합. 값은 첫 값만큼 빼서(shift) 저장해 큰 가격대에서도 분산 계산이 안정적이다.
+     * 버퍼가 한 바퀴 돌 때마다 합을 다시 더해 누적 오차를 지운다 (분할 상환 O(1)).
+     */
+    static final class Window {
+        private final double[] buf;
+        private int pos, filled;
+        private double shift = Double.NaN, sum, sumSq;
+
+        Window(int n) {
+            this.buf = new double[n];
+        }
+
+        void add(double x) {
+            if (Double.isNaN(shift)) shift = x;
+            double v = x - shift;
+            if (filled == buf.length) {
+                double old = buf[pos];
+                sum -= old;
+                sumSq -= old * old;
+            } else {
+                filled++;
+            }
+            buf[pos] = v;
+            sum += v;
+            sumSq += v * v;
+            if (++pos == buf.length) {
+                pos = 0;
+                resum();
+            }
+        }
+
+        boolean full() {
+            return filled == buf.length;
+        }
+
+        double mean() {
+            return shift + sum / filled;
+        }
+
+        /** 모분산 (ddof = 0) */
+        double variance() {
+            double m = sum / filled;
+            return Math.max(0, sumSq / filled - m * m);
+        }
+
+        /** 표본분산 (ddof = 1) */
+        double sampleVariance() {
+            double m = sum / filled;
+            return Math.max(0, (sumSq - filled * m * m) / (filled - 1));
+        }
+
+        private void resum() {
+            double s = 0, sq = 0;
+            for (int j = 0; j < filled; j++) {
+                s += buf[j];
+                sq += buf[j] * buf[j];
+            }
+            sum = s;
+            sumSq = sq;
+        }
+    }
+
+    static final class Sma extends IndicatorState {
+        private final Window w;
+        private int count;
+
+        Sma(int n) {
+            this.w = new Window(n);
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void push(double x, double[][] out, int i) {
+            count++;
+            if (Double.isNaN(x)) {
+                writeNaN(out, i);
+                return;
+            }
+            w.add(x);
+            out[0][i] = w.full() ? w.mean() : Double.NaN;
+        }
+    }
+
+    /** 처음 n 개의 단순평균으로 시작하고, 이후 alpha = 2 / (n + 1) */
+    static final class Ema extends IndicatorState {
+        private final int n;
+        private final double alpha;
+        private int count, seen;
+        private double seed, ema = Double.NaN;
+
+        Ema(int n) {
+            this.n = n;
+            this.alpha = 2.0 / (n + 1);
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void push(double x, double[][] out, int i) {
+            count++;
+            if (Double.isNaN(x)) {
+                writeNaN(out, i);
+                return;
+            }
+            if (seen < n) {
+                seed += x;
+                if (++seen == n) ema = seed / n;
+            } else {
+                ema += alpha * (x - ema);
+            }
+            out[0][i] = ema;
+        }
+    }
+
+    /** Wilder RSI: 처음 n 개 변화량의 평균으로 시작해 (avg * (n - 1) + 새 값) / n 으로 평활 */
+    static final class Rsi extends IndicatorState {
+        private final int n;
+        private int count, changes;
+        private double prev = Double.NaN, avgGain, avgLoss;
+
+        Rsi(int n) {
+            this.n = n;
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void push(double x, double[][] out, int i) {
+            count++;
+            if (Double.isNaN(x)) {
+                writeNaN(out, i);
+                return;
+            }
+            if (Double.isNaN(prev)) {
+                prev = x;
+                out[0][i] = Double.NaN;
+                return;
+            }
+            double d = x - prev;
+            prev = x;
+            double gain = d > 0 ? d : 0, loss = d < 0 ? -d : 0;
+            if (changes < n) {
+                avgGain += gain / n;
+                avgLoss += loss / n;
+                if (++changes < n) {
+                    out[0][i] = Double.NaN;
+                    return;
+                }
+            } else {
+                avgGain = (avgGain * (n - 1) + gain) / n;
+                avgLoss = (avgLoss * (n - 1) + loss) / n;
+            }
+            out[0][i] = avgLoss == 0 ? (avgGain == 0 ? 50 : 100) : 100 - 100 / (1 + avgGain / avgLoss);
+        }
+    }
+
+    /** 중심선 = n 일 단순평균, 밴드 = 중심선 ± k × 모표준편차 */
+    static final class Bollinger extends IndicatorState {
+        private final Window w;
+        private final double k;
+        private int count;
+
+        Bollinger(int n, double k) {
+            this.w = new Window(n);
+            this.k = k;
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void push(double x, double[][] out, int i) {
+            count++;
+            if (Double.isNaN(x)) {
+                writeNaN(out, i);
+                return;
+            }
+            w.add(x);
+            if (!w.full()) {
+                writeNaN(out, i);
+                return;
+            }
+            double mid = w.mean(), band = k * Math.sqrt(w.variance());
+            out[0][i] = mid;
+            out[1][i] = mid + band;
+            out[2][i] = mid - band;
+        }
+    }
+
+    /** n 개 로그수익률의 표본표준편차 × √252 */
+    static final class Volatility extends IndicatorState {
+        private final Window w;
+        private int count;
+        private double prev = Double.NaN;
+
+        Volatility(int n) {
+            this.w = new Window(n);
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void push(double x, double[][] out, int i) {
+            count++;
+            if (Double.isNaN(x) || x <= 0) {
+                writeNaN(out, i);
+                return;
+            }
+            if (!Double.isNaN(prev)) w.add(Math.log(x / prev));
+            prev = x;
+            out[0][i] = w.full() ? Math.sqrt(w.sampleVariance() * TRADING_DAYS) : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.shinhan.backend.simulation.analysis;
+
+import lombok.Getter;
+
+// 지원하는 기술적 지표. code 는 요청 파라미터와 응답 컬럼 이름에 쓰인다
+@Getter
+public enum IndicatorType {
+    SMA("sma", 20, "value"),
+    EMA("ema", 20, "value"),
+    RSI("rsi", 14, "value"),
+    BOLLINGER("bb", 20, "mid", "upper", "lower"),
+    VOLATILITY("vol", 20, "value");   // 로그수익률 이동 표준편차, 연율화(√252)
+
+    private final String code;
+    private final int defaultPeriod;
+    private final String[] outputs;
+
+    IndicatorType(String code, int defaultPeriod, String... outputs) {
+        this.code = code;
+        this.defaultPeriod = defaultPeriod;
+        this.outputs = outputs;
+    }
+
+    public static IndicatorType byCode(String code) {
+        for (IndicatorType t : values()) {
+            if (t.code.equals(code)) return t;
+        }
+        throw new IllegalArgumentException("지원하지 않는 지표입니다: " + code);
+    }
+}
@@ -0,0 +1,81 @@
+package com.shinhan.backend.simulation.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링.
+ * 구간 [lo, hi) 에서 threshold 개의 대표 인덱스를 고른다. 각 점은 한 번씩만 보므로 O(n).
+ * y 가 NaN 인 점은 꼭짓점/후보에서 빠진다. 버킷 전체가 NaN 이면 그 버킷은 건너뛰므로 threshold 보다 적게 나올 수 있다.
+ */
+public final class Lttb {
+
+    public static final int MIN_POINTS = 3;
+
+    private Lttb() {}
+
+    /** 선택된 원본 인덱스(오름차순). 구간이 threshold 이하이면 구간 전체를 돌려준다. */
+    public static int[] downsample(int[] x, double[] y, int lo, int hi, int threshold) {
+        int n = hi - lo;
+        if (n <= 0) return new int[0];
+        if (threshold < MIN_POINTS || threshold >= n) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) all[i] = lo + i;
+            return all;
+        }
+
+        // 양 끝은 NaN 이 아닌 첫/마지막 점
+        int first = lo, last = hi - 1;
+        while (first <= last && Double.isNaN(y[first])) first++;
+        while (last > first && Double.isNaN(y[last])) last--;
+        if (first > last) return new int[0];
+
+        int[] out = new int[threshold];
+        int k = 0;
+        out[k++] = first;                           // 첫 점은 항상 포함
+
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = first;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 버킷의 평균점 (세 번째 꼭짓점)
+            int avgStart = lo + (int) (Math.floor((i + 1) * every)) + 1;
+            int avgEnd = Math.min(lo + (int) (Math.floor((i + 2) * every)) + 1, hi);
+            double ax = x[a], ay = y[a];
+            double avgX = 0, avgY = 0;
+            int cnt = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                if (Double.isNaN(y[j])) continue;
+                avgX += x[j];
+                avgY += y[j];
+                cnt++;
+            }
+            if (cnt > 0) {
+                avgX /= cnt;
+                avgY /= cnt;
+            } else {
+                avgX = x[last];
+                avgY = y[last];
+            }
+
+            // 현재 버킷에서 삼각형 넓이가 가장 큰 점 (꼭짓점 a 이후, 마지막 점 이전의 NaN 이 아닌 점만)
+            int rangeStart = Math.max(lo + (int) (Math.floor(i * every)) + 1, a + 1);
+            int rangeEnd = Math.min(lo + (int) (Math.floor((i + 1) * every)) + 1, last);
+            double maxArea = -1;
+            int next = -1;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                if (Double.isNaN(y[j])) continue;
+                double area = Math.abs((ax - avgX) * (y[j] - ay) - (ax - x[j]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            if (next < 0) continue;                 // 버킷 전체가 NaN
+            out[k++] = next;
+            a = next;
+        }
+
+        if (last > a) out[k++] = last;              // 마지막 점도 항상 포함
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+}
@@ -0,0 +1,56 @@
+package com.shinhan.backend.simulation.analysis;
+
+/**
+ * (x, y) 쌍의 평균 / 분산 / 공분산을 Welford 방식으로 관측치 하나씩 넣고 빼며 유지한다.
+ * 윈도를 한 칸 밀 때 add 한 번, remove 한 번이므로 O(1).
+ */
+public final class RollingCovariance {
+
+    private int n;
+    private double meanX, meanY, m2x, m2y, cxy;
+
+    public void add(double x, double y) {
+        n++;
+        double dx = x - meanX, dy = y - meanY;
+        meanX += dx / n;
+        meanY += dy / n;
+        m2x += dx * (x - meanX);
+        m2y += dy * (y - meanY);
+        cxy += dx * (y - meanY);
+    }
+
+    /** add 의 역연산. 윈도에 들어 있던 관측치만 빼야 한다 */
+    public void remove(double x, double y) {
+        if (n <= 1) {
+            reset();
+            return;
+        }
+        n--;
+        double dx = x - meanX, dy = y - meanY;
+        meanX -= dx / n;
+        meanY -= dy / n;
+        m2x -= dx * (x - meanX);
+        m2y -= dy * (y - meanY);
+        cxy -= dx * (y - meanY);
+    }
+
+    public void reset() {
+        n = 0;
+        meanX = meanY = m2x = m2y = cxy = 0;
+    }
+
+    public int count() {
+        return n;
+    }
+
+    /** 피어슨 상관계수. 분산이 0 이면 NaN */
+    public double correlation() {
+        double d = Math.sqrt(m2x * m2y);
+        return n > 1 && d > 0 ? cxy / d : Double.NaN;
+    }
+
+    /** y 를 x 에 회귀한 OLS 기울기 cov(x, y) / var(x). var(x) 가 0 이면 NaN */
+    public double beta() {
+        return n > 1 && m2x > 0 ? cxy / m2x : Double.NaN;
+    }
+}
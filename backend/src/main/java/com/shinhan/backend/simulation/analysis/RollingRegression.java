@@ -0,0 +1,62 @@
+package com.shinhan.backend.simulation.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 금 수익률을 요인(환율, VIX 등) 수익률에 대해 이동 윈도로 상관 / 회귀한다.
+ * 수익률은 로그수익률이며 두 날 중 하나라도 값이 없으면 그 날은 관측치에서 빠진다.
+ * 구간 [lo, hi) 앞쪽 window 일을 먼저 채운 뒤 한 칸씩 밀므로 전체 비용은 O(hi - lo + window).
+ */
+public final class RollingRegression {
+
+    public static final int MIN_WINDOW = 5;
+    public static final int MAX_WINDOW = 750;
+
+    private RollingRegression() {}
+
+    /**
+     * i 번째 값은 (i - window, i] 의 수익률 쌍으로 계산한 값이다. [lo, hi) 밖은 NaN 으로 남긴다.
+     * 윈도 안 유효 관측치가 절반 미만이면 NaN. 결과 배열 길이는 가격 배열과 같다.
+     */
+    public static void compute(double[] gold, double[] factor, int lo, int hi, int window,
+                               double[] corrOut, double[] betaOut) {
+        Arrays.fill(corrOut, Double.NaN);
+        Arrays.fill(betaOut, Double.NaN);
+        int minObs = Math.max(3, window / 2);
+        int start = Math.max(1, lo - window + 1);
+
+        RollingCovariance acc = new RollingCovariance();
+        for (int i = start; i < hi; i++) {
+            // 오래 굴리면 빼기에서 오차가 쌓이므로 window 마다 한 번 다시 쌓는다 (분할 상환 O(1))
+            if ((i - start) % window == 0 && i - start >= window) {
+                acc.reset();
+                for (int j = i - window + 1; j < i; j++) addIfValid(acc, gold, factor, j);
+            } else {
+                int out = i - window;
+                if (out >= start) removeIfValid(acc, gold, factor, out);
+            }
+            addIfValid(acc, gold, factor, i);
+
+            if (i >= lo && acc.count() >= minObs) {
+                corrOut[i] = acc.correlation();
+                betaOut[i] = acc.beta();
+            }
+        }
+    }
+
+    private static void addIfValid(RollingCovariance acc, double[] gold, double[] factor, int i) {
+        double y = logReturn(gold, i), x = logReturn(factor, i);
+        if (!Double.isNaN(x) && !Double.isNaN(y)) acc.add(x, y);
+    }
+
+    private static void removeIfValid(RollingCovariance acc, double[] gold, double[] factor, int i) {
+        double y = logReturn(gold, i), x = logReturn(factor, i);
+        if (!Double.isNaN(x) && !Double.isNaN(y)) acc.remove(x, y);
+    }
+
+    // i - 1 → i 로그수익률. 값이 없거나 0 이하면 NaN
+    private static double logReturn(double[] v, int i) {
+        double a = v[i - 1], b = v[i];
+        return a > 0 && b > 0 ? Math.log(b / a) : Double.NaN;
+    }
+}
@@ -0,0 +1,108 @@
+package com.shinhan.backend.simulation.backtest;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 파라미터 격자 전체를 코어 수만큼 병렬로 평가한다.
+ * 시장 데이터는 공유 읽기 전용이고, 조합 하나를 평가하는 내부 루프는 스칼라만 써서 할당이 없다.
+ */
+public final class BacktestEngine {
+
+    public static final long MAX_COMBINATIONS = 1_000_000;
+    private static final int LEAF_COMBINATIONS = 32;
+    private static final double TRADING_DAYS = 252;
+
+    private final ForkJoinPool pool;
+
+    public BacktestEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public BacktestResult run(BacktestMarket m, StrategyType type, ParamGrid grid, double feeBps) {
+        if (grid.dimensions() != type.paramNames().size()) {
+            throw new IllegalArgumentException(type + " 파라미터는 " + type.paramNames() + " 입니다.");
+        }
+        if (grid.combinations() > MAX_COMBINATIONS) {
+            throw new IllegalArgumentException("조합 수는 " + MAX_COMBINATIONS + " 개 이하여야 합니다.");
+        }
+        BacktestResult out = new BacktestResult(grid);
+        long t0 = System.nanoTime();
+        pool.invoke(new Sweep(m, type, feeBps / 10_000, out, 0, out.size()));
+        out.elapsedNanos = System.nanoTime() - t0;
+        return out;
+    }
+
+    // 조합 하나 평가: t 일 종가에 포지션을 정하고 t+1 일 수익률을 받는다
+    static void evaluate(BacktestMarket m, StrategyType type, double[] p, double fee,
+                         BacktestResult out, int idx) {
+        int start = type.valid(p) ? Math.max(0, type.warmup(p)) : Integer.MAX_VALUE;
+        if (start >= m.size - 1) {
+            out.totalReturn[idx] = Double.NaN;
+            out.sharpe[idx] = Double.NaN;
+            out.maxDrawdown[idx] = Double.NaN;
+            return;
+        }
+
+        double[] close = m.close;
+        double equity = 1, peak = 1, mdd = 0, sum = 0, sumSq = 0;
+        int days = 0, trades = 0;
+        boolean pos = false;
+        for (int t = start; t < m.size - 1; t++) {
+            boolean want = type.longAt(m, t, p);
+            if (want != pos) {
+                equity *= 1 - fee;
+                trades++;
+                pos = want;
+            }
+            double r = pos ? close[t + 1] / close[t] - 1 : 0;
+            equity *= 1 + r;
+            sum += r;
+            sumSq += r * r;
+            days++;
+            if (equity > peak) peak = equity;
+            double dd = 1 - equity / peak;
+            if (dd > mdd) mdd = dd;
+        }
+
+        double mean = sum / days;
+        double var = sumSq / days - mean * mean;
+        out.totalReturn[idx] = equity - 1;
+        out.sharpe[idx] = var > 0 ? mean / Math.sqrt(var) * Math.sqrt(TRADING_DAYS) : 0;
+        out.maxDrawdown[idx] = mdd;
+        out.trades[idx] = trades;
+    }
+
+    private static final class Sweep extends RecursiveAction {
+        private final BacktestMarket m;
+        private final StrategyType type;
+        private final double fee;
+        private final BacktestResult out;
+        private final int lo;
+        private final int hi;
+
+        Sweep(BacktestMarket m, StrategyType type, double fee, BacktestResult out, int lo, int hi) {
+            this.m = m;
+            this.type = type;
+            this.fee = fee;
+            this.out = out;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= LEAF_COMBINATIONS) {
+                double[] p = new double[out.grid.dimensions()];   // 잎 작업당 한 번만
+                for (int i = lo; i < hi; i++) {
+                    out.grid.decode(i, p);
+                    evaluate(m, type, p, fee, out, i);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Sweep(m, type, fee, out, lo, mid),
+                      new Sweep(m, type, fee, out, mid, hi));
+        }
+    }
+}
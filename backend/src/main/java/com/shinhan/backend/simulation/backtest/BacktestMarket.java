@@ -0,0 +1,66 @@
+package com.shinhan.backend.simulation.backtest;
+
+import com.shinhan.backend.simulation.store.QuoteSeries;
+
+/**
+ * 백테스트용 읽기 전용 시장 데이터. 모든 전략·파라미터 조합이 이 배열들을 공유한다.
+ * 빈 값(NaN)은 직전 값으로 채우고, 종가 누적합을 미리 구해 이동평균을 O(1) 로 구한다.
+ */
+public final class BacktestMarket {
+
+    final int size;
+    final double[] close;    // KRW_G_CLOSE
+    final double[] fx;
+    final double[] vix;
+    final double[] prefix;   // prefix[i] = close[0] + ... + close[i-1]
+
+    private BacktestMarket(double[] close, double[] fx, double[] vix) {
+        this.size = close.length;
+        this.close = close;
+        this.fx = fx;
+        this.vix = vix;
+        this.prefix = new double[size + 1];
+        for (int i = 0; i < size; i++) prefix[i + 1] = prefix[i] + close[i];
+    }
+
+    public static BacktestMarket of(QuoteSeries s, int lo, int hi) {
+        return new BacktestMarket(
+                filled(s.getGoldClose(), lo, hi),
+                filled(s.getFxRate(), lo, hi),
+                filled(s.getVix(), lo, hi));
+    }
+
+    public static BacktestMarket of(double[] close, double[] fx, double[] vix) {
+        return new BacktestMarket(
+                filled(close, 0, close.length),
+                filled(fx, 0, fx.length),
+                filled(vix, 0, vix.length));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** t 일까지 w 일 단순이동평균 (t >= w - 1) */
+    double sma(int t, int w) {
+        return (prefix[t + 1] - prefix[t + 1 - w]) / w;
+    }
+
+    // [lo, hi) 를 복사하면서 NaN 은 직전 값(맨 앞이면 첫 유효값)으로 채운다
+    private static double[] filled(double[] src, int lo, int hi) {
+        double[] out = new double[Math.max(0, hi - lo)];
+        double first = 0;
+        for (int i = lo; i < hi; i++) {
+            if (!Double.isNaN(src[i])) {
+                first = src[i];
+                break;
+            }
+        }
+        double last = first;
+        for (int i = lo; i < hi; i++) {
+            if (!Double.isNaN(src[i])) last = src[i];
+            out[i - lo] = last;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,60 @@
+package com.shinhan.backend.simulation.backtest;
+
+import java.util.Arrays;
+
+/**
+ * 조합 번호별 성과 지표 (primitive 배열). 유효하지 않은 조합은 sharpe 가 NaN.
+ */
+public final class BacktestResult {
+
+    public final ParamGrid grid;
+    public final double[] totalReturn;
+    public final double[] sharpe;        // 연율화 (252 거래일)
+    public final double[] maxDrawdown;
+    public final int[] trades;
+    long elapsedNanos;
+
+    BacktestResult(ParamGrid grid) {
+        int n = (int) grid.combinations();
+        this.grid = grid;
+        this.totalReturn = new double[n];
+        this.sharpe = new double[n];
+        this.maxDrawdown = new double[n];
+        this.trades = new int[n];
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int size() {
+        return sharpe.length;
+    }
+
+    public double evaluationsPerSecond() {
+        return elapsedNanos > 0 ? size() * 1e9 / elapsedNanos : 0;
+    }
+
+    /** sharpe 내림차순 상위 n 개 조합 번호 */
+    public int[] top(int n) {
+        int[] best = new int[Math.min(n, size())];
+        int filled = 0;
+        for (int i = 0; i < size(); i++) {
+            double v = sharpe[i];
+            if (Double.isNaN(v)) continue;
+            if (filled < best.length) {
+                filled++;
+            } else if (v <= sharpe[best[filled - 1]]) {
+                continue;
+            }
+            // 정렬된 상태를 유지하며 삽입 (n 이 작으므로 선형 삽입)
+            int j = filled - 1;
+            while (j > 0 && sharpe[best[j - 1]] < v) {
+                best[j] = best[j - 1];
+                j--;
+            }
+            best[j] = i;
+        }
+        return Arrays.copyOf(best, filled);
+    }
+}
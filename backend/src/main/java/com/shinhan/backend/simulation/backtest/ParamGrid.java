@@ -0,0 +1,59 @@
+package com.shinhan.backend.simulation.backtest;
+
+/**
+ * 파라미터 격자. 조합 번호 하나를 혼합 진법으로 풀어 파라미터 값들로 바꾼다 (조합 목록을 만들지 않는다).
+ */
+public final class ParamGrid {
+
+    private final double[] from;
+    private final double[] step;
+    private final int[] counts;
+    private final long combinations;
+
+    public ParamGrid(double[] from, double[] to, double[] step) {
+        int d = from.length;
+        this.from = from.clone();
+        this.step = new double[d];
+        this.counts = new int[d];
+        long total = 1;
+        for (int i = 0; i < d; i++) {
+            double s = step[i] > 0 ? step[i] : 1;
+            if (!Double.isFinite(from[i]) || !Double.isFinite(to[i]) || to[i] < from[i]) {
+                throw new IllegalArgumentException("파라미터 범위가 잘못되었습니다.");
+            }
+            // int 로 자르기 전에 double 로 상한을 본다 (포화된 MAX_VALUE + 1 이 음수로 넘어가지 않게)
+            double n = Math.floor((to[i] - from[i]) / s + 1e-9) + 1;
+            if (!(n <= BacktestEngine.MAX_COMBINATIONS)) throw tooMany();
+            this.step[i] = s;
+            this.counts[i] = (int) n;
+            try {
+                total = Math.multiplyExact(total, counts[i]);
+            } catch (ArithmeticException e) {
+                throw tooMany();
+            }
+            if (total > BacktestEngine.MAX_COMBINATIONS) throw tooMany();
+        }
+        this.combinations = total;
+    }
+
+    public int dimensions() {
+        return from.length;
+    }
+
+    public long combinations() {
+        return combinations;
+    }
+
+    private static IllegalArgumentException tooMany() {
+        return new IllegalArgumentException("조합 수는 " + BacktestEngine.MAX_COMBINATIONS + " 개 이하여야 합니다.");
+    }
+
+    /** 조합 번호 idx 의 파라미터 값을 out 에 채운다 */
+    public void decode(long idx, double[] out) {
+        for (int i = from.length - 1; i >= 0; i--) {
+            int k = (int) (idx % counts[i]);
+            idx /= counts[i];
+            out[i] = from[i] + k * step[i];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.shinhan.backend.simulation.backtest;
+
+import java.util.List;
+
+/**
+ * 백테스트 전략. 매일 종가 기준으로 다음 날 금 보유(매수) 여부를 정한다.
+ * longAt 은 t 일까지의 데이터만 보고, 내부 루프에서 불리므로 객체를 만들지 않는다.
+ */
+public enum StrategyType {
+
+    // 단기 이동평균이 장기 이동평균 위에 있으면 보유
+    SMA_CROSS("fast", "slow") {
+        @Override
+        boolean valid(double[] p) {
+            return p[0] >= 1 && p[0] < p[1];
+        }
+
+        @Override
+        int warmup(double[] p) {
+            return (int) p[1] - 1;
+        }
+
+        @Override
+        boolean longAt(BacktestMarket m, int t, double[] p) {
+            return m.sma(t, (int) p[0]) > m.sma(t, (int) p[1]);
+        }
+    },
+
+    // lookback 일 수익률이 threshold 를 넘으면 보유
+    MOMENTUM("lookback", "threshold") {
+        @Override
+        boolean valid(double[] p) {
+            return p[0] >= 1;
+        }
+
+        @Override
+        int warmup(double[] p) {
+            return (int) p[0];
+        }
+
+        @Override
+        boolean longAt(BacktestMarket m, int t, double[] p) {
+            return m.close[t] / m.close[t - (int) p[0]] - 1 > p[1];
+        }
+    },
+
+    // SMA_CROSS 이면서 VIX 가 vixMax 미만일 때만 보유
+    VIX_FILTERED_SMA("fast", "slow", "vixMax") {
+        @Override
+        boolean valid(double[] p) {
+            return p[0] >= 1 && p[0] < p[1];
+        }
+
+        @Override
+        int warmup(double[] p) {
+            return (int) p[1] - 1;
+        }
+
+        @Override
+        boolean longAt(BacktestMarket m, int t, double[] p) {
+            return m.vix[t] < p[2] && m.sma(t, (int) p[0]) > m.sma(t, (int) p[1]);
+        }
+    },
+
+    // 환율이 lookback 일 동안 threshold 이상 오르면(원화 약세) 보유
+    FX_MOMENTUM("lookback", "threshold") {
+        @Override
+        boolean valid(double[] p) {
+            return p[0] >= 1;
+        }
+
+        @Override
+        int warmup(double[] p) {
+            return (int) p[0];
+        }
+
+        @Override
+        boolean longAt(BacktestMarket m, int t, double[] p) {
+            return m.fx[t] / m.fx[t - (int) p[0]] - 1 > p[1];
+        }
+    };
+
+    private final List<String> paramNames;
+
+    StrategyType(String... paramNames) {
+        this.paramNames = List.of(paramNames);
+    }
+
+    public List<String> paramNames() {
+        return paramNames;
+    }
+
+    abstract boolean valid(double[] p);
+
+    // 신호를 낼 수 있는 첫 인덱스
+    abstract int warmup(double[] p);
+
+    abstract boolean longAt(BacktestMarket m, int t, double[] p);
+}
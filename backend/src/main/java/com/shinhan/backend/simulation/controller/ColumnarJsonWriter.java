@@ -0,0 +1,94 @@
+package com.shinhan.backend.simulation.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulation.analysis.IndicatorColumns;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * {dates:[...], gold_close:[...], ...} 형태의 컬럼형 JSON 을 응답 스트림에 바로 쓴다.
+ * 행 DTO 를 만들지 않고, 날짜도 char 버퍼에 직접 찍어 행 단위 할당이 없다. NaN 은 null.
+ */
+final class ColumnarJsonWriter implements AutoCloseable {
+
+    static final String MEDIA_TYPE = "application/vnd.shinhan.columnar+json";
+
+    private final JsonGenerator gen;
+    private final char[] dateBuf = new char[10];
+
+    ColumnarJsonWriter(ObjectMapper objectMapper, HttpServletResponse res, String contentType) throws IOException {
+        res.setContentType(contentType);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.gen = objectMapper.getFactory().createGenerator(res.getOutputStream());
+        this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.gen.writeStartObject();
+    }
+
+    /** quotes 응답의 컬럼 전체 */
+    void writeQuotes(QuoteSlice slice) throws IOException {
+        QuoteSeries s = slice.getSeries();
+        writeDates("dates", s.getEpochDays(), slice);
+        writeColumn("fx_rate", s.getFxRate(), slice);
+        writeColumn("vix", s.getVix(), slice);
+        writeColumn("etf_volume", s.getEtfVolume(), slice);
+        writeColumn("gold_close", s.getGoldClose(), slice);
+        writeColumn("pred_close", s.getPredClose(), slice);
+    }
+
+    /** indicators 응답: 날짜, 기준 종가, 지표 컬럼들 */
+    void writeIndicators(IndicatorColumns ind) throws IOException {
+        QuoteSlice slice = ind.getSlice();
+        writeDates("dates", slice.getSeries().getEpochDays(), slice);
+        writeColumn("gold_close", slice.getSeries().getGoldClose(), slice);
+        for (Map.Entry<String, double[]> e : ind.getColumns().entrySet()) {
+            writeColumn(e.getKey(), e.getValue(), slice);
+        }
+    }
+
+    void writeDates(String name, int[] epochDays, QuoteSlice slice) throws IOException {
+        gen.writeArrayFieldStart(name);
+        for (int k = 0; k < slice.size(); k++) {
+            formatDate(epochDays[slice.index(k)]);
+            gen.writeString(dateBuf, 0, dateBuf.length);
+        }
+        gen.writeEndArray();
+    }
+
+    void writeColumn(String name, double[] col, QuoteSlice slice) throws IOException {
+        gen.writeArrayFieldStart(name);
+        for (int k = 0; k < slice.size(); k++) {
+            double v = col[slice.index(k)];
+            if (Double.isNaN(v)) gen.writeNull(); else gen.writeNumber(v);
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        gen.writeEndObject();
+        gen.close();
+    }
+
+    // yyyy-MM-dd (4자리 연도만 가정)
+    private void formatDate(int epochDay) {
+        LocalDate d = LocalDate.ofEpochDay(epochDay);   // 값 객체라 escape analysis 로 대부분 제거됨
+        int y = d.getYear(), m = d.getMonthValue(), day = d.getDayOfMonth();
+        dateBuf[0] = (char) ('0' + y / 1000);
+        dateBuf[1] = (char) ('0' + y / 100 % 10);
+        dateBuf[2] = (char) ('0' + y / 10 % 10);
+        dateBuf[3] = (char) ('0' + y % 10);
+        dateBuf[4] = '-';
+        dateBuf[5] = (char) ('0' + m / 10);
+        dateBuf[6] = (char) ('0' + m % 10);
+        dateBuf[7] = '-';
+        dateBuf[8] = (char) ('0' + day / 10);
+        dateBuf[9] = (char) ('0' + day % 10);
+    }
+}
@@ -0,0 +1,37 @@
+package com.shinhan.backend.simulation.controller;
+
+import com.shinhan.backend.simulation.dto.BacktestRequestDto;
+import com.shinhan.backend.simulation.dto.BacktestResponseDto;
+import com.shinhan.backend.simulation.service.BacktestService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/simulation")
+public class SimulationBacktestController {
+
+    private final BacktestService service;
+
+    // 예: POST /api/simulation/backtest
+    // {"strategy":"SMA_CROSS","from":"2015-01-01","to":"2024-12-31",
+    //  "params":{"fast":{"from":5,"to":50,"step":1},"slow":{"from":20,"to":250,"step":5}},"top":10}
+    // 격자 하나가 모든 코어를 쓰므로 로그인 회원만, 동시 실행 수도 서비스에서 제한한다
+    @PostMapping("/backtest")
+    public BacktestResponseDto backtest(@RequestBody BacktestRequestDto req, HttpSession session) {
+        if (session.getAttribute("LOGIN_NO") == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        try {
+            return service.run(req);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,35 @@
 package com.shinhan.backend.simulation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.config.ConditionalGet;
+import com.shinhan.backend.simulation.analysis.IndicatorColumns;
+import com.shinhan.backend.simulation.analysis.IndicatorSpec;
+import com.shinhan.backend.simulation.analysis.Lttb;
+import com.shinhan.backend.simulation.analysis.RollingRegression;
+import com.shinhan.backend.simulation.dto.OhlcRowDto;
 import com.shinhan.backend.simulation.dto.QuoteRowDto;
+import com.shinhan.backend.simulation.service.IndicatorService;
 import com.shinhan.backend.simulation.service.SimulationDashboardService;
+import com.shinhan.backend.simulation.store.QuoteResolution;
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -17,11 +37,19 @@ import java.util.List;
 @RequestMapping("/api/simulation")
 public class SimulationDashboardController {
 
+    private static final int DEFAULT_MAX_BARS = 600;
+    private static final int MAX_INDICATORS = 8;
+    // 과거 시세는 바뀌지 않으므로 매번 ETag 로 재검증만 한다
+    private static final CacheControl QUOTES_CACHE = CacheControl.noCache().cachePublic();
+
     private final SimulationDashboardService service;
+    private final IndicatorService indicatorService;
+    private final ObjectMapper objectMapper;
 
     // 예: GET /api/simulation/quotes?to=2024-10-01&unit=1y
     //    GET /api/simulation/quotes?from=2024-06-01&to=2024-10-01
-    @GetMapping("/quotes")
+    //    GET /api/simulation/quotes?to=2024-10-01&unit=10y&points=500  (LTTB 다운샘플링)
+    @GetMapping(value = "/quotes", params = "!resolution")
     public List<QuoteRowDto> quotes(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -29,8 +57,186 @@ public class SimulationDashboardController {
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
 
-            @RequestParam(defaultValue = "10y") String unit
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest
     ){
-        return service.getQuotes(to, unit, from);
+        checkPoints(points);
+        varyOnAccept(webRequest);
+        if (notModified(webRequest, "rows")) return null;
+        return service.getQuotes(to, unit, from, points);
+    }
+
+    // 컬럼형 응답: {dates:[...], fx_rate:[...], vix:[...], etf_volume:[...], gold_close:[...], pred_close:[...]}
+    // 예: GET /api/simulation/quotes?to=2024-10-01&unit=10y&format=columnar
+    @GetMapping(value = "/quotes", params = {"format=columnar", "!resolution"})
+    public void quotesColumnar(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest,
+            HttpServletResponse res
+    ) throws IOException {
+        writeColumnar(to, unit, from, points, webRequest, res, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    // Accept: application/vnd.shinhan.columnar+json 으로 요청해도 같은 컬럼형 응답
+    @GetMapping(value = "/quotes", params = "!resolution", produces = ColumnarJsonWriter.MEDIA_TYPE)
+    public void quotesColumnarByAccept(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest,
+            HttpServletResponse res
+    ) throws IOException {
+        varyOnAccept(webRequest);
+        writeColumnar(to, unit, from, points, webRequest, res, ColumnarJsonWriter.MEDIA_TYPE);
+    }
+
+    // 캔들(OHLC) 조회: resolution=day|week|month|year|auto
+    // 예: GET /api/simulation/quotes?to=2024-10-01&unit=10y&resolution=auto  (약 520개 주봉)
+    @GetMapping(value = "/quotes", params = "resolution")
+    public List<OhlcRowDto> candles(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam String resolution,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest
+    ){
+        QuoteResolution res = null;
+        if (!"auto".equalsIgnoreCase(resolution)) {
+            try {
+                res = QuoteResolution.parse(resolution);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "resolution 은 day/week/month/year/auto 중 하나여야 합니다.");
+            }
+        }
+        int maxBars = (points != null) ? Math.max(1, points) : DEFAULT_MAX_BARS;
+        if (notModified(webRequest, "candles")) return null;
+        return service.getCandles(to, unit, from, res, maxBars);
+    }
+
+    // 기술적 지표 (컬럼형): {dates, gold_close, sma_20, bb_20_2_mid, bb_20_2_upper, bb_20_2_lower, ...}
+    // 예: GET /api/simulation/indicators?to=2024-10-01&unit=10y&ind=sma:20,ema:50,rsi:14,bb:20:2,vol:20&points=600
+    @GetMapping("/indicators")
+    public void indicators(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam List<String> ind,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest,
+            HttpServletResponse res
+    ) throws IOException {
+        checkPoints(points);
+        if (ind.isEmpty() || ind.size() > MAX_INDICATORS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ind 는 1 ~ " + MAX_INDICATORS + "개까지 지정할 수 있습니다.");
+        }
+        List<IndicatorSpec> specs = new ArrayList<>(ind.size());
+        try {
+            for (String s : ind) specs.add(IndicatorSpec.parse(s));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        if (notModified(webRequest, "ind")) return;
+        IndicatorColumns columns = indicatorService.getIndicators(to, unit, from, points, specs);
+        try (ColumnarJsonWriter w = new ColumnarJsonWriter(objectMapper, res, MediaType.APPLICATION_JSON_VALUE)) {
+            w.writeIndicators(columns);
+        }
+    }
+
+    // 금 수익률 vs 환율 / VIX 수익률의 이동 상관계수와 베타 (컬럼형): {dates, gold_close, corr_fx, beta_fx, corr_vix, beta_vix}
+    // 예: GET /api/simulation/correlation?to=2024-10-01&unit=10y&window=60
+    @GetMapping("/correlation")
+    public void correlation(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @RequestParam(defaultValue = "10y") String unit,
+
+            @RequestParam(defaultValue = "60") int window,
+
+            @RequestParam(required = false) Integer points,
+
+            ServletWebRequest webRequest,
+            HttpServletResponse res
+    ) throws IOException {
+        checkPoints(points);
+        if (window < RollingRegression.MIN_WINDOW || window > RollingRegression.MAX_WINDOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "window 는 " + RollingRegression.MIN_WINDOW + " ~ " + RollingRegression.MAX_WINDOW + " 사이여야 합니다.");
+        }
+
+        if (notModified(webRequest, "corr")) return;
+        IndicatorColumns columns = indicatorService.getRollingCorrelation(to, unit, from, points, window);
+        try (ColumnarJsonWriter w = new ColumnarJsonWriter(objectMapper, res, MediaType.APPLICATION_JSON_VALUE)) {
+            w.writeIndicators(columns);
+        }
+    }
+
+    private void writeColumnar(LocalDate to, String unit, LocalDate from, Integer points,
+                               ServletWebRequest webRequest, HttpServletResponse res,
+                               String contentType) throws IOException {
+        checkPoints(points);
+        if (notModified(webRequest, "columnar")) return;
+        QuoteSlice slice = service.getQuoteSlice(to, unit, from, points);
+        try (ColumnarJsonWriter w = new ColumnarJsonWriter(objectMapper, res, contentType)) {
+            w.writeQuotes(slice);
+        }
+    }
+
+    // 같은 URL 이 Accept 에 따라 행 / 컬럼형으로 갈리므로, 공유 캐시가 두 본문을 섞지 않게 한다 (304 포함)
+    private static void varyOnAccept(ServletWebRequest webRequest) {
+        HttpServletResponse res = webRequest.getResponse();
+        if (res != null) res.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    // ETag: 시세 내용 버전 + 응답 형식, Last-Modified: 마지막 시세일
+    private boolean notModified(ServletWebRequest webRequest, String kind) {
+        String etag = "W/\"q-" + kind + "-" + Long.toHexString(service.getQuotesVersion()) + "\"";
+        LocalDate last = service.getLastQuoteDate();
+        long lastModified = (last != null) ? last.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli() : -1;
+        return ConditionalGet.notModified(webRequest, QUOTES_CACHE, etag, lastModified);
+    }
+
+    private static void checkPoints(Integer points) {
+        if (points != null && points < Lttb.MIN_POINTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "points 는 " + Lttb.MIN_POINTS + " 이상이어야 합니다.");
+        }
     }
 }
\ No newline at end of file
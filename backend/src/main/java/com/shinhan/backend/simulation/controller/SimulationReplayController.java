@@ -0,0 +1,69 @@
+package com.shinhan.backend.simulation.controller;
+
+import com.shinhan.backend.simulation.dto.ReplaySessionDto;
+import com.shinhan.backend.simulation.replay.ReplayHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/simulation/replay")
+public class SimulationReplayController {
+
+    private final ReplayHub hub;
+
+    // 세션 생성. 예: POST /api/simulation/replay?from=2020-01-01&to=2020-12-31&intervalMs=1000
+    // 같은 세션 id 로 여러 명이 구독하면 모두 같은 날짜를 같은 시점에 본다
+    @PostMapping
+    public ReplaySessionDto create(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1000") long intervalMs
+    ){
+        try {
+            return hub.create(from, to, intervalMs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ReplaySessionDto get(@PathVariable String id) {
+        ReplaySessionDto dto = hub.get(id);
+        if (dto == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        return dto;
+    }
+
+    // SSE 구독. event: tick (하루치 시세) ... event: end (세션 요약) 후 스트림 종료
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String id) {
+        SseEmitter emitter;
+        try {
+            emitter = hub.subscribe(id);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+        if (emitter == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        return emitter;
+    }
+
+    @DeleteMapping("/{id}")
+    public void stop(@PathVariable String id) {
+        if (!hub.stop(id)) throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,18 @@
+package com.shinhan.backend.simulation.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotePrediction {
+    private LocalDate date;      // 예측 대상일
+    private String model;
+    private Double predClose;
+}
@@ -17,4 +17,5 @@ public class QuotesDaily {
     private Double vix;
     private Double etfVolume;
     private Double fxRate;
+    private Double predClose;    // QUOTES_PREDICTION 조인 (읽기 전용, 없으면 null)
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.shinhan.backend.simulation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestParamRangeDto {
+    private double from;
+    private double to;
+    private double step = 1;
+}
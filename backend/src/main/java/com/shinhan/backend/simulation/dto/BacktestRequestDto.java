@@ -0,0 +1,20 @@
+package com.shinhan.backend.simulation.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BacktestRequestDto {
+    private String strategy;                           // SMA_CROSS | MOMENTUM | VIX_FILTERED_SMA | FX_MOMENTUM
+    private LocalDate from;
+    private LocalDate to;
+    private Map<String, BacktestParamRangeDto> params; // 파라미터 이름 → 탐색 범위
+    private double feeBps = 5;                         // 매매 1회당 비용 (bp)
+    private int top = 20;                              // 돌려받을 상위 조합 수
+}
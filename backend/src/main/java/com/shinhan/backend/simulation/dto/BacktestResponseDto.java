@@ -0,0 +1,21 @@
+package com.shinhan.backend.simulation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResponseDto {
+    private String strategy;
+    private int days;                       // 평가에 쓴 거래일 수
+    private long evaluated;                 // 평가한 조합 수
+    private long elapsedMs;
+    private double evaluationsPerSecond;
+    private List<BacktestResultDto> results; // sharpe 내림차순
+}
@@ -0,0 +1,20 @@
+package com.shinhan.backend.simulation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResultDto {
+    private Map<String, Double> params;
+    private double totalReturn;
+    private double sharpe;
+    private double maxDrawdown;
+    private int trades;
+}
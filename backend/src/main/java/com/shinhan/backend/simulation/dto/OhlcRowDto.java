@@ -0,0 +1,26 @@
+package com.shinhan.backend.simulation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OhlcRowDto {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;       // 구간 시작일
+
+    private Double open;          // 금 시세(KRW/g)
+    private Double high;
+    private Double low;
+    private Double close;
+    private Double volume;        // ETF 거래량 합
+    private Double fx_rate;       // 구간 마지막 값
+    private Double vix;           // 구간 마지막 값
+}
@@ -21,5 +21,5 @@ public class QuoteRowDto {
     private Double vix;
     private Double etf_volume;
     private Double gold_close;
-    private Double pred_close;   // LSTM 예측 없으면 null
+    private Double pred_close;   // PredictionJob 이 채운 예측 종가, 없으면 null
 }
\ No newline at end of file
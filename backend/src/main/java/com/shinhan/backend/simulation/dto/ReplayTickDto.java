@@ -0,0 +1,27 @@
+package com.shinhan.backend.simulation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 리플레이 한 틱 (= 하루). 예측값은 연습 대상이라 보내지 않는다
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayTickDto {
+    private int index;           // 0부터, 세션 안에서의 순번
+    private int total;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private Double fx_rate;
+    private Double vix;
+    private Double etf_volume;
+    private Double gold_close;
+}
@@ -0,0 +1,235 @@
+package com.shinhan.backend.simulation.ingest;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import com.shinhan.backend.simulation.mapper.QuotesMapper;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * QUOTES_DAILY CSV 일괄 적재.
+ * 파일은 큰 버퍼로 한 줄씩 흘려 읽고(파일 크기와 무관하게 메모리 일정),
+ * MyBatis BATCH executor 로 batchSize 행마다 JDBC 배치를 보내고 commitEvery 행마다 커밋한다.
+ * 도중에 실패해도 이미 커밋된 묶음은 테이블에 남으므로, 그만큼은 QuoteStore 에 반영하고 예외를 다시 던진다.
+ * MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 주어야 배치가 다건 INSERT 로 합쳐진다.
+ *
+ * 헤더 예: Date,KRW_G_OPEN,KRW_G_CLOSE,USD_OZ_OPEN,USD_OZ_CLOSE,VIX,ETF_VOLUME,FX_RATE
+ * (순서 무관, 대소문자 무시, 없는 컬럼은 NULL)
+ *
+ * 분봉 등 장중 행(Date 에 시각이 붙은 "2024-01-02 09:30" 형태)은 테이블이 일 단위이므로 같은 날짜의 연속된 행을
+ * 하루치로 접어서 넣는다: 시가는 첫 값, 종가 / VIX / 환율은 마지막 값, 거래량은 합. 파일 안에서 시간순이어야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteCsvLoader {
+
+    private static final String[] COLUMNS = {
+            "date", "krw_g_open", "krw_g_close", "usd_oz_open", "usd_oz_close", "vix", "etf_volume", "fx_rate"
+    };
+    private static final int READ_BUFFER = 1 << 20;
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final QuoteStore quoteStore;
+
+    @Value("${simulation.ingest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${simulation.ingest.commit-every:20000}")
+    private int commitEvery;
+
+    // 0 이면 적재 도중 % 에서 ArithmeticException 이 나므로 기동할 때 막는다
+    @PostConstruct
+    void validate() {
+        if (batchSize < 1) throw new IllegalStateException("simulation.ingest.batch-size 는 1 이상이어야 합니다: " + batchSize);
+        if (commitEvery < 1) throw new IllegalStateException("simulation.ingest.commit-every 는 1 이상이어야 합니다: " + commitEvery);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final long rows;
+        private final long skipped;
+        private final long elapsedMs;
+    }
+
+    public Result load(Path file) throws IOException {
+        long t0 = System.nanoTime();
+        long skipped = 0;
+        Writer out = null;
+
+        try (BufferedReader in = new BufferedReader(
+                     new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), READ_BUFFER);
+             SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+
+            String header = in.readLine();
+            if (header == null) return new Result(0, 0, 0);
+            int[] pos = columnPositions(header);
+            String[] fields = new String[max(pos) + 1];
+
+            out = new Writer(session);
+            QuotesDaily pending = null;     // 장중 행을 접는 중인 하루
+            boolean pendingIntraday = false;
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                QuotesDaily q = parse(line, pos, fields);
+                if (q == null) {
+                    if (skipped++ < 5) log.warn("quote loader: skip line in {}: {}", file.getFileName(), line);
+                    continue;
+                }
+                boolean intraday = fields[pos[0]].length() > 10;
+                if (pending != null && intraday && pendingIntraday && pending.getDate().equals(q.getDate())) {
+                    merge(pending, q);
+                    continue;
+                }
+                if (pending != null) out.write(pending);
+                pending = q;
+                pendingIntraday = intraday;
+            }
+            if (pending != null) out.write(pending);
+            session.flushStatements();
+            out.commit();
+        } catch (IOException | RuntimeException e) {
+            if (out != null && out.committedMinDate != null) {
+                log.warn("quote loader: {} failed after {} committed rows, syncing quote store",
+                        file.getFileName(), out.committedRows);
+                try {
+                    syncStore(out.committedMinDate);
+                } catch (RuntimeException re) {
+                    e.addSuppressed(re);
+                }
+            }
+            throw e;
+        }
+        long rows = out.rows;
+        syncStore(out.committedMinDate);
+
+        long ms = (System.nanoTime() - t0) / 1_000_000;
+        log.info("quote loader: {} -> {} rows ({} skipped) in {} ms ({} rows/s)",
+                file.getFileName(), rows, skipped, ms, ms > 0 ? rows * 1000 / ms : rows);
+        return new Result(rows, skipped, ms);
+    }
+
+    // 새 날짜만 붙었으면 증분 갱신, 과거 날짜를 건드렸으면 전체 재적재 (refresh 는 lastDate 이후만 읽는다)
+    private void syncStore(LocalDate minDate) {
+        if (minDate == null) return;
+        LocalDate last = quoteStore.snapshot().lastDate();
+        if (last != null && !minDate.isAfter(last)) quoteStore.reload();
+        else quoteStore.refresh();
+    }
+
+    // batchSize 행마다 JDBC 배치, commitEvery 행마다 커밋
+    private final class Writer {
+        private final SqlSession session;
+        private final QuotesMapper mapper;
+        private long rows;
+        private LocalDate minDate;
+        private long committedRows;
+        private LocalDate committedMinDate;   // 커밋까지 끝난 행 중 가장 이른 날짜
+
+        Writer(SqlSession session) {
+            this.session = session;
+            this.mapper = session.getMapper(QuotesMapper.class);
+        }
+
+        void write(QuotesDaily q) {
+            mapper.upsertDaily(q);
+            rows++;
+            if (minDate == null || q.getDate().isBefore(minDate)) minDate = q.getDate();
+
+            if (rows % batchSize == 0) session.flushStatements();
+            if (rows % commitEvery == 0) commit();
+        }
+
+        void commit() {
+            session.commit();
+            committedRows = rows;
+            committedMinDate = minDate;
+        }
+    }
+
+    // 같은 날의 다음 장중 행을 day 에 접는다
+    private static void merge(QuotesDaily day, QuotesDaily next) {
+        if (day.getKrwGOpen() == null) day.setKrwGOpen(next.getKrwGOpen());
+        if (day.getUsdOzOpen() == null) day.setUsdOzOpen(next.getUsdOzOpen());
+        if (next.getKrwGClose() != null) day.setKrwGClose(next.getKrwGClose());
+        if (next.getUsdOzClose() != null) day.setUsdOzClose(next.getUsdOzClose());
+        if (next.getVix() != null) day.setVix(next.getVix());
+        if (next.getFxRate() != null) day.setFxRate(next.getFxRate());
+        if (next.getEtfVolume() != null) {
+            day.setEtfVolume(day.getEtfVolume() == null ? next.getEtfVolume() : day.getEtfVolume() + next.getEtfVolume());
+        }
+    }
+
+    // COLUMNS 순서대로 CSV 에서의 위치 (-1 = 없음)
+    private static int[] columnPositions(String header) {
+        String[] names = header.split(",");
+        int[] pos = new int[COLUMNS.length];
+        for (int c = 0; c < COLUMNS.length; c++) {
+            pos[c] = -1;
+            for (int i = 0; i < names.length; i++) {
+                String n = names[i].trim().replace("\uFEFF", "").toLowerCase(Locale.ROOT);
+                if (n.equals(COLUMNS[c])) pos[c] = i;
+            }
+        }
+        if (pos[0] < 0) throw new IllegalArgumentException("CSV 헤더에 Date 컬럼이 없습니다: " + header);
+        return pos;
+    }
+
+    // 따옴표 없는 단순 CSV. 정규식 split 대신 한 번 훑으며 필드를 자른다
+    private static QuotesDaily parse(String line, int[] pos, String[] fields) {
+        int f = 0, start = 0;
+        for (int i = 0; i <= line.length() && f < fields.length; i++) {
+            if (i == line.length() || line.charAt(i) == ',') {
+                fields[f++] = line.substring(start, i).trim();
+                start = i + 1;
+            }
+        }
+        for (int i = f; i < fields.length; i++) fields[i] = "";
+
+        try {
+            String date = fields[pos[0]];
+            QuotesDaily q = new QuotesDaily();
+            q.setDate(LocalDate.parse(date.length() > 10 ? date.substring(0, 10) : date));
+            q.setKrwGOpen(number(fields, pos[1]));
+            q.setKrwGClose(number(fields, pos[2]));
+            q.setUsdOzOpen(number(fields, pos[3]));
+            q.setUsdOzClose(number(fields, pos[4]));
+            q.setVix(number(fields, pos[5]));
+            q.setEtfVolume(number(fields, pos[6]));
+            q.setFxRate(number(fields, pos[7]));
+            return q;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Double number(String[] fields, int p) {
+        if (p < 0) return null;
+        String v = fields[p];
+        return v.isEmpty() || v.equalsIgnoreCase("null") ? null : Double.valueOf(v);
+    }
+
+    private static int max(int[] a) {
+        int m = -1;
+        for (int v : a) m = Math.max(m, v);
+        return m;
+    }
+}
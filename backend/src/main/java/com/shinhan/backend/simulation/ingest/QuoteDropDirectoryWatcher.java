@@ -0,0 +1,102 @@
+package com.shinhan.backend.simulation.ingest;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * simulation.ingest.watch-dir 에 *.csv 가 들어오면 QuoteCsvLoader 로 적재하고
+ * processed/ (실패 시 failed/) 로 옮긴다. 설정이 비어 있으면 동작하지 않는다.
+ * 쓰는 도중의 파일을 읽지 않도록, 파일은 다른 이름(.tmp 등)으로 다 쓴 뒤 .csv 로 rename 해서 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteDropDirectoryWatcher {
+
+    private final QuoteCsvLoader loader;
+
+    @Value("${simulation.ingest.watch-dir:}")
+    private String watchDir;
+
+    private WatchService watchService;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (watchDir == null || watchDir.isBlank()) return;
+
+        Path dir = Path.of(watchDir);
+        Files.createDirectories(dir.resolve("processed"));
+        Files.createDirectories(dir.resolve("failed"));
+
+        watchService = FileSystems.getDefault().newWatchService();
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        worker = new Thread(() -> run(dir), "quote-drop-watcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("quote loader: watching {}", dir.toAbsolutePath());
+    }
+
+    private void run(Path dir) {
+        // 꺼져 있는 동안 들어온 파일부터 처리
+        try (DirectoryStream<Path> existing = Files.newDirectoryStream(dir, "*.csv")) {
+            for (Path p : existing) process(dir, p);
+        } catch (IOException e) {
+            log.error("quote loader: cannot list {}", dir, e);
+        }
+
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            for (WatchEvent<?> ev : key.pollEvents()) {
+                if (ev.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+                Path p = dir.resolve((Path) ev.context());
+                if (p.getFileName().toString().endsWith(".csv") && Files.isRegularFile(p)) process(dir, p);
+            }
+            if (!key.reset()) return;
+        }
+    }
+
+    private void process(Path dir, Path file) {
+        Path target = dir.resolve("processed");
+        try {
+            loader.load(file);
+        } catch (Exception e) {
+            log.error("quote loader: failed to load {}", file.getFileName(), e);
+            target = dir.resolve("failed");
+        }
+        try {
+            Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("quote loader: cannot move {} to {}", file.getFileName(), target, e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        if (watchService != null) watchService.close();
+        if (worker != null) worker.interrupt();
+    }
+}
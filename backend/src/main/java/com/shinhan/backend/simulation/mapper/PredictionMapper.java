@@ -0,0 +1,13 @@
+package com.shinhan.backend.simulation.mapper;
+
+import com.shinhan.backend.simulation.domain.QuotePrediction;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface PredictionMapper {
+    // (날짜, 모델) 기준 다건 upsert
+    int upsertPredictions(@Param("rows") List<QuotePrediction> rows);
+}
@@ -1,6 +1,6 @@
 package com.shinhan.backend.simulation.mapper;
 
-import com.shinhan.backend.simulation.dto.QuoteRowDto;
+import com.shinhan.backend.simulation.domain.QuotesDaily;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -9,6 +9,10 @@ import java.util.List;
 
 @Mapper
 public interface QuotesMapper {
-    List<QuoteRowDto> selectQuotes(@Param("from") LocalDate from,
-                                   @Param("to") LocalDate to);
+    // after 이후(after 미포함)의 일별 시세 전체 컬럼 + model 의 저장된 예측 종가. after 가 null 이면 전체
+    List<QuotesDaily> selectDailyAfter(@Param("after") LocalDate after,
+                                       @Param("model") String model);   // QUOTES_PREDICTION.MODEL
+
+    // 일괄 적재용 단건 upsert (BATCH executor 로 묶어서 실행)
+    int upsertDaily(QuotesDaily q);
 }
\ No newline at end of file
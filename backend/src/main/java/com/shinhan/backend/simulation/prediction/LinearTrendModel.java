@@ -0,0 +1,45 @@
+package com.shinhan.backend.simulation.prediction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본(베이스라인) 모델: 최근 lookback 일 종가에 직선을 최소제곱으로 맞춰 한 칸 외삽한다.
+ * 값이 없는 날(NaN)은 건너뛴다.
+ */
+@Component
+public class LinearTrendModel implements PricePredictionModel {
+
+    private final int lookback;
+
+    public LinearTrendModel(@Value("${simulation.prediction.lookback:20}") int lookback) {
+        this.lookback = Math.max(2, lookback);
+    }
+
+    @Override
+    public String name() {
+        return "linear-trend-" + lookback;
+    }
+
+    @Override
+    public double predictNext(double[] closes, int t) {
+        int start = Math.max(0, t - lookback + 1);
+        double n = 0, sx = 0, sy = 0, sxx = 0, sxy = 0;
+        for (int i = start; i <= t; i++) {
+            double y = closes[i];
+            if (Double.isNaN(y)) continue;
+            double x = i - t;                  // 마지막 날이 0
+            n++;
+            sx += x;
+            sy += y;
+            sxx += x * x;
+            sxy += x * y;
+        }
+        if (n == 0) return Double.NaN;
+        double den = n * sxx - sx * sx;
+        if (n < 2 || den == 0) return sy / n;
+        double slope = (n * sxy - sx * sy) / den;
+        double intercept = (sy - slope * sx) / n;
+        return intercept + slope;              // x = 1 (다음 날)
+    }
+}
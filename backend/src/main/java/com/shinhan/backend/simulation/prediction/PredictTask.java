@@ -0,0 +1,36 @@
+package com.shinhan.backend.simulation.prediction;
+
+import java.util.concurrent.RecursiveAction;
+
+// 예측 대상 인덱스 [lo, hi) 를 반씩 나눠 fork-join 으로 계산한다. out[i - base] = i 번째 날의 예측
+class PredictTask extends RecursiveAction {
+
+    private static final int THRESHOLD = 256;
+
+    private final PricePredictionModel model;
+    private final double[] closes;
+    private final int lo;
+    private final int hi;
+    private final double[] out;
+    private final int base;
+
+    PredictTask(PricePredictionModel model, double[] closes, int lo, int hi, double[] out, int base) {
+        this.model = model;
+        this.closes = closes;
+        this.lo = lo;
+        this.hi = hi;
+        this.out = out;
+        this.base = base;
+    }
+
+    @Override
+    protected void compute() {
+        if (hi - lo <= THRESHOLD) {
+            for (int i = lo; i < hi; i++) out[i - base] = model.predictNext(closes, i - 1);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new PredictTask(model, closes, lo, mid, out, base),
+                  new PredictTask(model, closes, mid, hi, out, base));
+    }
+}
@@ -0,0 +1,118 @@
+package com.shinhan.backend.simulation.prediction;
+
+import com.shinhan.backend.simulation.domain.QuotePrediction;
+import com.shinhan.backend.simulation.mapper.PredictionMapper;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import com.shinhan.backend.simulation.store.QuotesAppendedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * pred_close 배치 예측. 요청 경로에서는 절대 계산하지 않는다.
+ * - 새 시세가 붙으면(QuotesAppendedEvent) 새로 생긴 날짜만 예측 (기동 시 전체 적재면 저장된 예측이 끝나는 곳부터)
+ * - 매일 한 번(cron) 전체를 다시 예측
+ * 계산은 QuoteSeries 의 종가 배열 위에서 fork-join 으로 나눠 돌리고,
+ * 결과는 QuoteStore 에 반영한 뒤 QUOTES_PREDICTION 에 청크 단위로 upsert 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionJob {
+
+    private static final int WRITE_CHUNK = 500;
+
+    private final PricePredictionModel model;
+    private final QuoteStore quoteStore;
+    private final PredictionMapper predictionMapper;
+
+    // 배치는 한 번에 하나씩만 (이벤트/cron 이 겹쳐도 순서대로)
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "prediction-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @EventListener
+    public void onQuotesAppended(QuotesAppendedEvent e) {
+        QuoteSeries s = e.getSeries();
+        // 전체 적재(fromIndex 0)면 DB 에서 같이 읽어 온 예측은 두고, 마지막 저장 예측 이후만 계산한다
+        int from = e.getFromIndex() == 0 ? firstUnpredicted(s) : e.getFromIndex();
+        runner.execute(() -> run(s, from));
+    }
+
+    @Scheduled(cron = "${simulation.prediction.cron:0 0 5 * * *}")
+    void recomputeAll() {
+        runner.execute(() -> run(quoteStore.snapshot(), 0));
+    }
+
+    // 예측 대상 인덱스 i 는 [from, n]. i == n 은 마지막 시세일 다음 거래일(아직 행이 없음)
+    void run(QuoteSeries s, int from) {
+        int n = s.getSize();
+        int start = Math.max(1, from);
+        if (n == 0 || start > n) return;
+
+        try {
+            long t0 = System.nanoTime();
+            double[] pred = new double[n + 1 - start];
+            pool.invoke(new PredictTask(model, s.getGoldClose(), start, n + 1, pred, start));
+            long t1 = System.nanoTime();
+
+            quoteStore.applyPredictions(s, start, pred);
+
+            String name = model.name();
+            List<QuotePrediction> chunk = new ArrayList<>(WRITE_CHUNK);
+            int written = 0;
+            for (int i = start; i <= n; i++) {
+                double v = pred[i - start];
+                if (Double.isNaN(v)) continue;
+                LocalDate date = (i < n) ? s.dateAt(i) : nextWeekday(s.dateAt(n - 1));
+                chunk.add(new QuotePrediction(date, name, v));
+                if (chunk.size() == WRITE_CHUNK) {
+                    written += predictionMapper.upsertPredictions(chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) written += predictionMapper.upsertPredictions(chunk);
+
+            log.info("prediction job [{}]: {} dates computed in {} ms, saved in {} ms (rows affected {})",
+                    name, pred.length, (t1 - t0) / 1_000_000, (System.nanoTime() - t1) / 1_000_000, written);
+        } catch (RuntimeException e) {
+            log.error("prediction job failed (from index {})", from, e);
+        }
+    }
+
+    static int firstUnpredicted(QuoteSeries s) {
+        double[] pred = s.getPredClose();
+        int i = s.getSize();
+        while (i > 0 && Double.isNaN(pred[i - 1])) i--;
+        return i;
+    }
+
+    private static LocalDate nextWeekday(LocalDate d) {
+        LocalDate next = d.plusDays(1);
+        while (next.getDayOfWeek() == DayOfWeek.SATURDAY || next.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+}
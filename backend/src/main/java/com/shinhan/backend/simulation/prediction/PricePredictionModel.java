@@ -0,0 +1,15 @@
+package com.shinhan.backend.simulation.prediction;
+
+/**
+ * JVM 안에서 도는 다음 날 종가 예측 모델. PredictionJob 이 인덱스 구간을 나눠 병렬로 호출하므로
+ * 구현체는 상태가 없어야 하고(스레드 안전), 호출마다 객체를 만들지 않는 것이 좋다.
+ * 다른 모델을 쓰려면 이 인터페이스를 구현한 빈을 @Primary 로 등록하면 된다.
+ */
+public interface PricePredictionModel {
+
+    // QUOTES_PREDICTION.MODEL 에 저장되는 이름
+    String name();
+
+    // closes[0..t] 만 보고 t+1 번째 종가를 예측한다. 예측할 수 없으면 NaN
+    double predictNext(double[] closes, int t);
+}
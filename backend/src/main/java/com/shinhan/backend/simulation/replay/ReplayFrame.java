@@ -0,0 +1,19 @@
+package com.shinhan.backend.simulation.replay;
+
+/**
+ * 구독자 전체에 똑같이 나가는 SSE 이벤트. JSON 은 틱마다 한 번만 직렬화해 공유한다.
+ * last 이면 보낸 뒤 스트림을 닫는다.
+ */
+final class ReplayFrame {
+    final long id;
+    final String name;
+    final String json;
+    final boolean last;
+
+    ReplayFrame(long id, String name, String json, boolean last) {
+        this.id = id;
+        this.name = name;
+        this.json = json;
+        this.last = last;
+    }
+}
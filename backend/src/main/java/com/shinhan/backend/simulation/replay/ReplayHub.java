@@ -0,0 +1,152 @@
+package com.shinhan.backend.simulation.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulation.dto.ReplaySessionDto;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리플레이 세션 관리. 모든 세션의 티커는 스레드 하나짜리 스케줄러를 공유하고,
+ * 실제 SSE 쓰기는 구독자별 가상 스레드가 맡는다 (구독자당 동시에 하나, 구독자 수는 max-subscribers 로 묶임).
+ * 읽지 않는 구독자도 send 가 실패해 스레드가 빠질 때까지 슬롯을 차지하므로, 스레드와 연결 수도 max-subscribers 를 넘지 않는다.
+ * 고정 크기 풀에 두면 읽지 않는 클라이언트 몇 개의 막힌 send 가 풀을 다 잡아 모든 구독자가 멈춘다.
+ */
+@Slf4j
+@Component
+public class ReplayHub {
+
+    private final QuoteStore quoteStore;
+    private final ObjectMapper objectMapper;
+    private final int maxSessions;
+    private final int maxSubscribers;
+    private final long minIntervalMs;
+    private final long idleMs;
+    private final long sendTimeoutMs;
+
+    private final Map<String, ReplaySession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService sender;
+
+    public ReplayHub(QuoteStore quoteStore, ObjectMapper objectMapper,
+                     @Value("${simulation.replay.max-sessions:100}") int maxSessions,
+                     @Value("${simulation.replay.max-subscribers:20000}") int maxSubscribers,
+                     @Value("${simulation.replay.min-interval-ms:50}") long minIntervalMs,
+                     @Value("${simulation.replay.idle-ms:60000}") long idleMs,
+                     @Value("${simulation.replay.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.quoteStore = quoteStore;
+        this.objectMapper = objectMapper;
+        this.maxSessions = maxSessions;
+        this.maxSubscribers = maxSubscribers;
+        this.minIntervalMs = minIntervalMs;
+        this.idleMs = idleMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(daemon("replay-ticker"));
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("replay-sender-", 0).factory());
+    }
+
+    /** [from, to] 구간을 intervalMs 간격으로 재생하는 세션을 만든다. 한도를 넘으면 IllegalStateException */
+    public ReplaySessionDto create(LocalDate from, LocalDate to, long intervalMs) {
+        if (intervalMs < minIntervalMs) {
+            throw new IllegalArgumentException("intervalMs 는 " + minIntervalMs + " 이상이어야 합니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new IllegalStateException("동시에 진행 중인 리플레이가 너무 많습니다.");
+        }
+
+        QuoteSeries s = quoteStore.snapshot();
+        int lo = s.lowerBound(from.toEpochDay());
+        int hi = s.upperBound(to.toEpochDay());
+        if (hi <= lo) throw new IllegalArgumentException("해당 구간에 시세가 없습니다.");
+
+        ReplaySession session = new ReplaySession(UUID.randomUUID().toString(), s, lo, hi, intervalMs, objectMapper);
+        sessions.put(session.getId(), session);
+        session.ticker = ticker.scheduleAtFixedRate(() -> tick(session), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return session.toDto();
+    }
+
+    /** 세션이 없으면 null. 구독자 한도를 넘으면 IllegalStateException */
+    public SseEmitter subscribe(String id) {
+        ReplaySession session = sessions.get(id);
+        if (session == null || session.isFinished()) return null;
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("리플레이 구독자가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(0L);   // 0 = 서블릿 비동기 타임아웃 없음, 세션이 끝날 때 닫는다
+        ReplaySubscriber[] self = new ReplaySubscriber[1];
+        // 세션에서는 닫히는 즉시 빠지지만, 슬롯은 막힌 send 가 돌아와 전송 스레드가 끝날 때 돌려준다
+        self[0] = new ReplaySubscriber(emitter, sender, sendTimeoutMs,
+                () -> session.unsubscribe(self[0]),
+                subscriberCount::decrementAndGet);
+        session.subscribe(self[0]);
+        return emitter;
+    }
+
+    public ReplaySessionDto get(String id) {
+        ReplaySession session = sessions.get(id);
+        return session != null ? session.toDto() : null;
+    }
+
+    public boolean stop(String id) {
+        ReplaySession session = sessions.remove(id);
+        if (session == null) return false;
+        session.ticker.cancel(false);
+        ticker.execute(session::stop);   // 프레임 발행은 티커 스레드에서만
+        return true;
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void tick(ReplaySession session) {
+        try {
+            if (session.tick(System.currentTimeMillis(), idleMs) && sessions.remove(session.getId(), session)) {
+                session.ticker.cancel(false);
+                log.debug("replay session {} closed", session.getId());
+            }
+        } catch (RuntimeException e) {
+            // 예외가 새면 scheduleAtFixedRate 가 조용히 멈추므로 세션을 정리한다
+            log.error("replay session {} failed", session.getId(), e);
+            sessions.remove(session.getId());
+            session.ticker.cancel(false);
+            session.stop();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
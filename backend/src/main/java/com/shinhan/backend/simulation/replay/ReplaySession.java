@@ -0,0 +1,117 @@
+package com.shinhan.backend.simulation.replay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulation.dto.ReplaySessionDto;
+import com.shinhan.backend.simulation.dto.ReplayTickDto;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import lombok.Getter;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 리플레이 세션 하나. 공유 티커가 intervalMs 마다 하루씩 진행하고, 그 날의 프레임을 모든 구독자에게 넘긴다.
+ * 구독자가 없는 동안은 진행하지 않으며, 그 상태로 idleMs 가 지나면 세션이 끝난다.
+ * tick() 은 티커 스레드에서만 호출된다.
+ */
+final class ReplaySession {
+
+    @Getter
+    private final String id;
+    private final QuoteSeries series;
+    private final int lo;
+    private final int hi;
+    @Getter
+    private final long intervalMs;
+    private final ObjectMapper objectMapper;
+
+    private final List<ReplaySubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile ReplayFrame current;       // 늦게 들어온 구독자에게 먼저 보낼 현재 날짜
+    private volatile boolean finished;
+    private int cursor;
+    private long idleSince;
+    volatile ScheduledFuture<?> ticker;
+
+    ReplaySession(String id, QuoteSeries series, int lo, int hi, long intervalMs, ObjectMapper objectMapper) {
+        this.id = id;
+        this.series = series;
+        this.lo = lo;
+        this.hi = hi;
+        this.intervalMs = intervalMs;
+        this.objectMapper = objectMapper;
+        this.cursor = lo;
+        this.idleSince = System.currentTimeMillis();
+    }
+
+    void subscribe(ReplaySubscriber s) {
+        subscribers.add(s);
+        ReplayFrame f = current;
+        if (f != null) s.offer(f);
+    }
+
+    void unsubscribe(ReplaySubscriber s) {
+        subscribers.remove(s);
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    /** @return 세션을 정리해야 하면 true */
+    boolean tick(long now, long idleMs) {
+        if (finished) return true;
+        if (subscribers.isEmpty()) {
+            return now - idleSince > idleMs;
+        }
+        idleSince = now;
+
+        ReplayFrame frame = cursor < hi ? dayFrame(cursor++) : endFrame();
+        current = frame;
+        for (ReplaySubscriber s : subscribers) s.offer(frame);
+        if (frame.last) finished = true;
+        return false;
+    }
+
+    /** 세션을 강제로 끝낸다. 구독자는 end 이벤트를 받고 닫힌다 */
+    void stop() {
+        if (finished) return;
+        finished = true;
+        ReplayFrame end = endFrame();
+        for (ReplaySubscriber s : subscribers) s.offer(end);
+    }
+
+    ReplaySessionDto toDto() {
+        return new ReplaySessionDto(id,
+                hi > lo ? series.dateAt(lo) : null,
+                hi > lo ? series.dateAt(hi - 1) : null,
+                hi - lo, intervalMs, subscribers.size());
+    }
+
+    private ReplayFrame dayFrame(int i) {
+        ReplayTickDto tick = new ReplayTickDto(i - lo, hi - lo, series.dateAt(i),
+                QuoteSeries.box(series.getFxRate()[i]),
+                QuoteSeries.box(series.getVix()[i]),
+                QuoteSeries.box(series.getEtfVolume()[i]),
+                QuoteSeries.box(series.getGoldClose()[i]));
+        return new ReplayFrame(i - lo, "tick", toJson(tick), false);
+    }
+
+    private ReplayFrame endFrame() {
+        return new ReplayFrame(hi - lo, "end", toJson(toDto()), true);
+    }
+
+    private String toJson(Object o) {
+        try {
+            return objectMapper.writeValueAsString(o);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
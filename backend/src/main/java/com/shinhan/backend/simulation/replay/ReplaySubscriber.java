@@ -0,0 +1,139 @@
+package com.shinhan.backend.simulation.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SSE 연결 하나. 보낼 프레임은 최신 한 개만 들고 있다 (conflation).
+ * 느린 클라이언트는 중간 날짜를 건너뛰고 최신 날짜를 받으며, 다른 구독자나 티커를 막지 않는다.
+ * 구독자마다 전송 작업은 많아야 하나만 돌고, 전송은 가상 스레드에서 하므로 막힌 send 가 공용 스레드를 잡지 않는다.
+ * 읽지 않는 클라이언트는 소켓 버퍼가 차면 send 가 멈추는데, sendTimeout 을 넘기면 다음 틱에서 세션에서 떼어 낸다(onDetach).
+ * 막힌 send 는 억지로 풀 수 없으므로 서버 쓰기 타임아웃(server.tomcat.connection-timeout)으로 실패할 때까지 기다리고,
+ * 그동안 스레드와 연결을 잡고 있으므로 구독자 슬롯(onRelease)은 전송 스레드가 빠져나갈 때에야 돌려준다.
+ */
+@Slf4j
+final class ReplaySubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final Runnable onDetach;
+    private final Runnable onRelease;
+    private final long sendTimeoutNanos;
+
+    private final AtomicReference<ReplayFrame> pending = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean timedOut;
+    private volatile long sendingSince;     // 진행 중인 send 의 시작 시각 (nanoTime), 없으면 0
+    private long skipped;   // 덮어써져 못 보낸 프레임 수 (티커 스레드만 쓴다, 로그용)
+
+    ReplaySubscriber(SseEmitter emitter, Executor sender, long sendTimeoutMs, Runnable onDetach, Runnable onRelease) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.onDetach = onDetach;
+        this.onRelease = onRelease;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        emitter.onCompletion(this::markClosed);
+        emitter.onTimeout(this::markClosed);
+        emitter.onError(e -> markClosed());
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /** 티커 스레드에서 호출. 막히지 않는다 */
+    void offer(ReplayFrame frame) {
+        if (closed.get() || stalled(System.nanoTime())) return;
+        ReplayFrame prev = pending.getAndSet(frame);
+        if (prev != null && !prev.last) skipped++;
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                release();
+            }
+        }
+    }
+
+    private void drain() {
+        boolean open = true;
+        do {
+            ReplayFrame f;
+            while (open && (f = pending.getAndSet(null)) != null) {
+                open = !closed.get() && send(f);
+                if (open && f.last) {
+                    emitter.complete();
+                    open = false;
+                }
+            }
+            draining.set(false);
+            // 플래그를 내린 직후 들어온 프레임을 놓치지 않도록 한 번 더 확인
+        } while (open && pending.get() != null && draining.compareAndSet(false, true));
+
+        if (!open) markClosed();
+        release();
+    }
+
+    private boolean send(ReplayFrame f) {
+        sendingSince = System.nanoTime() | 1;
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(f.id))
+                    .name(f.name)
+                    .data(f.json, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("replay subscriber dropped after {} skipped frames: {}", skipped, e.toString());
+            emitter.completeWithError(e);
+            return false;
+        } finally {
+            sendingSince = 0;
+        }
+        if (timedOut) {
+            // 마감을 넘긴 send 가 결국 끝났다. 같은 emitter 락을 쓰므로 끝내는 것도 이 스레드에서
+            emitter.completeWithError(new TimeoutException("replay send timed out"));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 진행 중인 send 가 마감을 넘겼으면 세션에서 떼어 낸다 (티커 스레드).
+     * emitter 를 끝내는 일은 막힌 send 와 같은 락을 기다리므로 여기서 하지 않고, send 가 돌아온 전송 스레드가 맡는다.
+     */
+    private boolean stalled(long now) {
+        long since = sendingSince;
+        if (since == 0 || now - since < sendTimeoutNanos) return false;
+        log.debug("replay subscriber detached: send blocked over {} ms, {} skipped frames",
+                TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos), skipped);
+        timedOut = true;
+        markClosed();
+        return true;
+    }
+
+    // onCompletion / onTimeout / onError 콜백과 전송 실패가 겹쳐도 onDetach 는 한 번만
+    private void markClosed() {
+        if (closed.compareAndSet(false, true)) onDetach.run();
+        release();
+    }
+
+    // 닫혔고 전송 스레드도 없을 때 한 번만 슬롯을 돌려준다. markClosed 와 drain 종료 중 늦은 쪽이 부른다
+    private void release() {
+        if (closed.get() && !draining.get() && released.compareAndSet(false, true)) onRelease.run();
+    }
+}
@@ -0,0 +1,8 @@
+package com.shinhan.backend.simulation.service;
+
+import com.shinhan.backend.simulation.dto.BacktestRequestDto;
+import com.shinhan.backend.simulation.dto.BacktestResponseDto;
+
+public interface BacktestService {
+    BacktestResponseDto run(BacktestRequestDto req);
+}
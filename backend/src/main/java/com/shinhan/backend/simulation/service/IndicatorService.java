@@ -0,0 +1,18 @@
+package com.shinhan.backend.simulation.service;
+
+import com.shinhan.backend.simulation.analysis.IndicatorColumns;
+import com.shinhan.backend.simulation.analysis.IndicatorSpec;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IndicatorService {
+
+    // gold_close 기준 지표들을 quotes 와 같은 구간 / 다운샘플링 인덱스로 돌려준다
+    IndicatorColumns getIndicators(LocalDate to, String unit, LocalDate fromOpt, Integer points,
+                                   List<IndicatorSpec> specs);
+
+    // 금 로그수익률의 환율 / VIX 수익률에 대한 이동 상관계수와 OLS 베타 (corr_fx, beta_fx, corr_vix, beta_vix)
+    IndicatorColumns getRollingCorrelation(LocalDate to, String unit, LocalDate fromOpt, Integer points,
+                                           int window);
+}
@@ -1,11 +1,25 @@
 package com.shinhan.backend.simulation.service;
 
+import com.shinhan.backend.simulation.dto.OhlcRowDto;
 import com.shinhan.backend.simulation.dto.QuoteRowDto;
+import com.shinhan.backend.simulation.store.QuoteResolution;
+import com.shinhan.backend.simulation.store.QuoteSlice;
 
 import java.time.LocalDate;
-import java.util.Date;
 import java.util.List;
 
 public interface SimulationDashboardService {
-    List<QuoteRowDto> getQuotes(LocalDate to, String unit, LocalDate fromOpt);
+    List<QuoteRowDto> getQuotes(LocalDate to, String unit, LocalDate fromOpt, Integer points);
+
+    // DTO 를 만들지 않고 스냅샷 인덱스만 돌려준다 (컬럼형 스트리밍 응답용)
+    QuoteSlice getQuoteSlice(LocalDate to, String unit, LocalDate fromOpt, Integer points);
+
+    // 시세 데이터 버전(내용 기반)과 마지막 시세일. 조건부 GET 의 ETag / Last-Modified 로 쓴다
+    long getQuotesVersion();
+
+    LocalDate getLastQuoteDate();
+
+    // resolution 이 null 이면 maxBars 안에 들어오는 가장 촘촘한 단위를 고른다
+    List<OhlcRowDto> getCandles(LocalDate to, String unit, LocalDate fromOpt,
+                                QuoteResolution resolution, int maxBars);
 }
\ No newline at end of file
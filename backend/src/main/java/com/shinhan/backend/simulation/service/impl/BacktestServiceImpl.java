@@ -0,0 +1,106 @@
+package com.shinhan.backend.simulation.service.impl;
+
+import com.shinhan.backend.simulation.backtest.BacktestEngine;
+import com.shinhan.backend.simulation.backtest.BacktestMarket;
+import com.shinhan.backend.simulation.backtest.BacktestResult;
+import com.shinhan.backend.simulation.backtest.ParamGrid;
+import com.shinhan.backend.simulation.backtest.StrategyType;
+import com.shinhan.backend.simulation.dto.BacktestParamRangeDto;
+import com.shinhan.backend.simulation.dto.BacktestRequestDto;
+import com.shinhan.backend.simulation.dto.BacktestResponseDto;
+import com.shinhan.backend.simulation.dto.BacktestResultDto;
+import com.shinhan.backend.simulation.service.BacktestService;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class BacktestServiceImpl implements BacktestService {
+
+    private static final int MAX_TOP = 100;
+
+    private final QuoteStore quoteStore;
+
+    // 요청 스레드가 아니라 코어 수 만큼의 전용 풀에서 격자를 나눠 돈다
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final BacktestEngine engine = new BacktestEngine(pool);
+
+    // 한 번의 실행이 풀 전체를 쓰므로 동시에 도는 격자 수를 묶고, 넘치면 기다리지 않고 거절한다
+    private final Semaphore running;
+
+    public BacktestServiceImpl(QuoteStore quoteStore,
+                               @Value("${simulation.backtest.max-concurrent:2}") int maxConcurrent) {
+        this.quoteStore = quoteStore;
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public BacktestResponseDto run(BacktestRequestDto req) {
+        StrategyType type;
+        try {
+            type = StrategyType.valueOf(String.valueOf(req.getStrategy()).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 전략입니다: " + req.getStrategy());
+        }
+        if (req.getFrom() == null || req.getTo() == null || req.getFrom().isAfter(req.getTo())) {
+            throw new IllegalArgumentException("from/to 를 확인하세요.");
+        }
+
+        List<String> names = type.paramNames();
+        Map<String, BacktestParamRangeDto> ranges = req.getParams() != null ? req.getParams() : Map.of();
+        double[] from = new double[names.size()];
+        double[] to = new double[names.size()];
+        double[] step = new double[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            BacktestParamRangeDto r = ranges.get(names.get(i));
+            if (r == null) throw new IllegalArgumentException(type + " 파라미터는 " + names + " 입니다.");
+            from[i] = r.getFrom();
+            to[i] = r.getTo();
+            step[i] = r.getStep();
+        }
+        ParamGrid grid = new ParamGrid(from, to, step);
+
+        QuoteSeries s = quoteStore.snapshot();
+        int lo = s.lowerBound(req.getFrom().toEpochDay());
+        int hi = s.upperBound(req.getTo().toEpochDay());
+        BacktestMarket market = BacktestMarket.of(s, lo, hi);
+
+        if (!running.tryAcquire()) {
+            throw new IllegalStateException("백테스트 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        BacktestResult res;
+        try {
+            res = engine.run(market, type, grid, req.getFeeBps());
+        } finally {
+            running.release();
+        }
+
+        double[] p = new double[names.size()];
+        List<BacktestResultDto> results = new ArrayList<>();
+        for (int idx : res.top(Math.min(Math.max(1, req.getTop()), MAX_TOP))) {
+            grid.decode(idx, p);
+            Map<String, Double> params = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) params.put(names.get(i), p[i]);
+            results.add(new BacktestResultDto(params, res.totalReturn[idx], res.sharpe[idx],
+                    res.maxDrawdown[idx], res.trades[idx]));
+        }
+
+        return new BacktestResponseDto(type.name(), market.size(), res.size(),
+                res.elapsedNanos() / 1_000_000, res.evaluationsPerSecond(), results);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
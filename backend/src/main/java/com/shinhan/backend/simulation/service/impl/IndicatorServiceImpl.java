@@ -0,0 +1,121 @@
+package com.shinhan.backend.simulation.service.impl;
+
+import com.shinhan.backend.simulation.analysis.IndicatorColumns;
+import com.shinhan.backend.simulation.analysis.IndicatorSpec;
+import com.shinhan.backend.simulation.analysis.IndicatorState;
+import com.shinhan.backend.simulation.analysis.RollingRegression;
+import com.shinhan.backend.simulation.service.IndicatorService;
+import com.shinhan.backend.simulation.service.SimulationDashboardService;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import com.shinhan.backend.simulation.store.QuotesAppendedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지표 계산 결과를 (지표, 파라미터) 별로 캐시하고, 새 시세일이 붙으면 이어서 계산한다.
+ * 전체 재적재(fromIndex == 0)가 일어나면 과거 값이 바뀌었을 수 있으므로 캐시를 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class IndicatorServiceImpl implements IndicatorService {
+
+    // 파라미터 조합이 무한히 쌓이지 않도록 상한을 넘으면 통째로 비운다
+    private static final int MAX_CACHED = 128;
+
+    private final SimulationDashboardService dashboardService;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public IndicatorColumns getIndicators(LocalDate to, String unit, LocalDate fromOpt, Integer points,
+                                          List<IndicatorSpec> specs) {
+        // 세대를 스냅샷보다 먼저 읽는다: 그 사이 재적재가 끼면 이 결과는 옛 세대로 남아 다음 조회에서 버려진다
+        long gen = generation.get();
+        QuoteSlice slice = dashboardService.getQuoteSlice(to, unit, fromOpt, points);
+        QuoteSeries s = slice.getSeries();
+
+        if (cache.size() > MAX_CACHED) cache.clear();
+
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        for (IndicatorSpec spec : specs) {
+            Entry e = cache.compute(spec.getKey(), (k, cur) -> advance(cur, spec, s, gen));
+            String[] names = spec.columnNames();
+            for (int c = 0; c < names.length; c++) columns.put(names[c], e.values[c]);
+        }
+        return new IndicatorColumns(slice, columns);
+    }
+
+    @Override
+    public IndicatorColumns getRollingCorrelation(LocalDate to, String unit, LocalDate fromOpt, Integer points,
+                                                  int window) {
+        QuoteSlice slice = dashboardService.getQuoteSlice(to, unit, fromOpt, points);
+        QuoteSeries s = slice.getSeries();
+        int n = s.getSize();
+
+        // 요청 구간(+ 앞쪽 윈도)만 계산하므로 캐시하지 않는다
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        double[] corrFx = new double[n], betaFx = new double[n];
+        double[] corrVix = new double[n], betaVix = new double[n];
+        RollingRegression.compute(s.getGoldClose(), s.getFxRate(), slice.getLo(), slice.getHi(), window, corrFx, betaFx);
+        RollingRegression.compute(s.getGoldClose(), s.getVix(), slice.getLo(), slice.getHi(), window, corrVix, betaVix);
+        columns.put("corr_fx", corrFx);
+        columns.put("beta_fx", betaFx);
+        columns.put("corr_vix", corrVix);
+        columns.put("beta_vix", betaVix);
+        return new IndicatorColumns(slice, columns);
+    }
+
+    @EventListener
+    public void onQuotesAppended(QuotesAppendedEvent event) {
+        if (event.getFromIndex() == 0) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    // compute 안에서만 호출되므로 같은 키의 상태는 한 번에 한 스레드만 만진다
+    private static Entry advance(Entry cur, IndicatorSpec spec, QuoteSeries s, long gen) {
+        int n = s.getSize();
+        if (cur != null && cur.generation == gen && cur.state.count() >= n) return cur;
+
+        IndicatorState state;
+        double[][] values;
+        int from;
+        if (cur != null && cur.generation == gen) {
+            state = cur.state;
+            from = state.count();
+            values = new double[cur.values.length][];
+            for (int c = 0; c < values.length; c++) values[c] = Arrays.copyOf(cur.values[c], n);
+        } else {
+            state = spec.newState();
+            from = 0;
+            values = new double[spec.columnNames().length][n];
+        }
+        state.pushAll(s.getGoldClose(), from, n, values);
+        return new Entry(gen, state, values);
+    }
+
+    // 불변. 이어서 계산할 때는 배열을 복사해 새 Entry 를 만들므로 이미 내준 배열은 바뀌지 않는다
+    private static final class Entry {
+        final long generation;
+        final IndicatorState state;
+        final double[][] values;
+
+        Entry(long generation, IndicatorState state, double[][] values) {
+            this.generation = generation;
+            this.state = state;
+            this.values = values;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.shinhan.backend.simulation.service.impl;
 
+import com.shinhan.backend.simulation.analysis.Lttb;
+import com.shinhan.backend.simulation.dto.OhlcRowDto;
 import com.shinhan.backend.simulation.dto.QuoteRowDto;
-import com.shinhan.backend.simulation.mapper.QuotesMapper;
 import com.shinhan.backend.simulation.service.SimulationDashboardService;
+import com.shinhan.backend.simulation.store.QuoteResolution;
+import com.shinhan.backend.simulation.store.QuoteRollup;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import com.shinhan.backend.simulation.store.QuoteStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -14,16 +21,97 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SimulationDashboardServiceImpl implements SimulationDashboardService {
 
-    private final QuotesMapper quotesMapper;
+    private final QuoteStore quoteStore;
 
     private static final Map<String,Integer> UNIT_DAYS = Map.of(
             "10y",3650, "5y",1825, "1y",365, "3m",90, "1m",30, "1w",7
     );
 
     @Override
-    public List<QuoteRowDto> getQuotes(LocalDate to, String unit, LocalDate fromOpt) {
+    public List<QuoteRowDto> getQuotes(LocalDate to, String unit, LocalDate fromOpt, Integer points) {
+        QuoteSlice slice = getQuoteSlice(to, unit, fromOpt, points);
+        QuoteSeries s = slice.getSeries();
+
+        List<QuoteRowDto> rows = new ArrayList<>(slice.size());
+        for (int k = 0; k < slice.size(); k++) {
+            int i = slice.index(k);
+            rows.add(new QuoteRowDto(
+                    s.dateAt(i),
+                    QuoteSeries.box(s.getFxRate()[i]),
+                    QuoteSeries.box(s.getVix()[i]),
+                    QuoteSeries.box(s.getEtfVolume()[i]),
+                    QuoteSeries.box(s.getGoldClose()[i]),
+                    QuoteSeries.box(s.getPredClose()[i])
+            ));
+        }
+        return rows;
+    }
+
+    @Override
+    public QuoteSlice getQuoteSlice(LocalDate to, String unit, LocalDate fromOpt, Integer points) {
+        LocalDate from = rangeStart(to, unit, fromOpt);
+
+        // DB 대신 메모리 스냅샷에서 [from, to] 구간을 이진 탐색으로 잘라낸다
+        QuoteSeries s = quoteStore.snapshot();
+        int lo = s.lowerBound(from.toEpochDay());
+        int hi = s.upperBound(to.toEpochDay());
+
+        // points 가 있으면 gold_close 기준 LTTB 로 대표 행만 고른다 (나머지 컬럼은 같은 행 값)
+        int[] picked = (points != null)
+                ? Lttb.downsample(s.getEpochDays(), s.getGoldClose(), lo, hi, points)
+                : null;
+        return new QuoteSlice(s, lo, hi, picked);
+    }
+
+    @Override
+    public long getQuotesVersion() {
+        return quoteStore.snapshot().version();
+    }
+
+    @Override
+    public LocalDate getLastQuoteDate() {
+        return quoteStore.snapshot().lastDate();
+    }
+
+    @Override
+    public List<OhlcRowDto> getCandles(LocalDate to, String unit, LocalDate fromOpt,
+                                       QuoteResolution resolution, int maxBars) {
+        LocalDate from = rangeStart(to, unit, fromOpt);
+
+        QuoteRollup r = null;
+        int lo = 0, hi = 0;
+        if (resolution != null) {
+            r = quoteStore.rollup(resolution);
+            lo = r.lowerBound(resolution.bucketStart(from.toEpochDay()));
+            hi = r.upperBound(to.toEpochDay());
+        } else {
+            // 일 → 주 → 월 → 연 순으로, 구간 개수가 maxBars 이하가 되는 첫 단위
+            for (QuoteResolution res : QuoteResolution.values()) {
+                r = quoteStore.rollup(res);
+                lo = r.lowerBound(res.bucketStart(from.toEpochDay()));
+                hi = r.upperBound(to.toEpochDay());
+                if (hi - lo <= maxBars) break;
+            }
+        }
+
+        List<OhlcRowDto> rows = new ArrayList<>(Math.max(0, hi - lo));
+        for (int i = lo; i < hi; i++) {
+            rows.add(new OhlcRowDto(
+                    LocalDate.ofEpochDay(r.getStartDays()[i]),
+                    QuoteSeries.box(r.getOpen()[i]),
+                    QuoteSeries.box(r.getHigh()[i]),
+                    QuoteSeries.box(r.getLow()[i]),
+                    QuoteSeries.box(r.getClose()[i]),
+                    QuoteSeries.box(r.getVolume()[i]),
+                    QuoteSeries.box(r.getFxRate()[i]),
+                    QuoteSeries.box(r.getVix()[i])
+            ));
+        }
+        return rows;
+    }
+
+    private static LocalDate rangeStart(LocalDate to, String unit, LocalDate fromOpt) {
         int days = UNIT_DAYS.getOrDefault(unit, 365);
-        LocalDate from = (fromOpt != null) ? fromOpt : to.minusDays(days - 1);
-        return quotesMapper.selectQuotes(from, to);
+        return (fromOpt != null) ? fromOpt : to.minusDays(days - 1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.shinhan.backend.simulation.store;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+// 캔들 집계 단위. 주 단위는 월요일 시작
+public enum QuoteResolution {
+    DAY, WEEK, MONTH, YEAR;
+
+    /** epochDay 가 속한 구간의 시작일 (epoch day) */
+    public long bucketStart(long epochDay) {
+        switch (this) {
+            case DAY:
+                return epochDay;
+            case WEEK:
+                return epochDay - Math.floorMod(epochDay + 3, 7);   // 1970-01-01 은 목요일
+            case MONTH:
+                return LocalDate.ofEpochDay(epochDay).withDayOfMonth(1).toEpochDay();
+            default:
+                return LocalDate.ofEpochDay(epochDay).withDayOfYear(1).toEpochDay();
+        }
+    }
+
+    /** "day" / "week" / "month" / "year" (대소문자 무시). 그 외는 IllegalArgumentException */
+    public static QuoteResolution parse(String s) {
+        return valueOf(s.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,153 @@
+package com.shinhan.backend.simulation.store;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * QuoteSeries 를 주/월/연 단위로 미리 묶어둔 OHLC + 거래량 스냅샷 (불변).
+ * 일별 시세에는 고가/저가가 없으므로 하루의 고가·저가는 max/min(시가, 종가)로 본다.
+ * 새 일별 행이 붙으면 마지막(미완성일 수 있는) 구간부터만 다시 계산한다.
+ */
+@Getter
+public final class QuoteRollup {
+
+    private final QuoteResolution resolution;
+    private final int size;
+    private final int dailySize;          // 집계에 사용된 일별 행 수
+    private final int[] startDays;        // 구간 시작일 (epoch day)
+    private final int[] firstIndex;       // 구간의 첫 일별 인덱스
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;        // ETF_VOLUME 합
+    private final double[] fxRate;        // 구간 마지막 값
+    private final double[] vix;           // 구간 마지막 값
+
+    private QuoteRollup(QuoteResolution resolution, int size, int dailySize,
+                        int[] startDays, int[] firstIndex,
+                        double[] open, double[] high, double[] low, double[] close,
+                        double[] volume, double[] fxRate, double[] vix) {
+        this.resolution = resolution;
+        this.size = size;
+        this.dailySize = dailySize;
+        this.startDays = startDays;
+        this.firstIndex = firstIndex;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.fxRate = fxRate;
+        this.vix = vix;
+    }
+
+    public static QuoteRollup build(QuoteSeries s, QuoteResolution r) {
+        return aggregate(s, r, null, 0, 0);
+    }
+
+    /** s 가 이 롤업을 만든 시리즈에 행을 덧붙인 것이라고 보고, 마지막 구간부터 다시 집계한다 */
+    public QuoteRollup extend(QuoteSeries s) {
+        if (s.getSize() == dailySize) return this;
+        if (s.getSize() < dailySize || size == 0) return build(s, resolution);
+        return aggregate(s, resolution, this, size - 1, firstIndex[size - 1]);
+    }
+
+    /** 시작일이 epochDay 이상인 첫 구간 (없으면 size) */
+    public int lowerBound(long epochDay) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (startDays[mid] < epochDay) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** 시작일이 epochDay 보다 큰 첫 구간 (없으면 size) */
+    public int upperBound(long epochDay) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (startDays[mid] <= epochDay) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // prev 의 [0, keep) 구간은 그대로 두고, 일별 인덱스 from 부터 다시 집계
+    private static QuoteRollup aggregate(QuoteSeries s, QuoteResolution r,
+                                         QuoteRollup prev, int keep, int from) {
+        int cap = keep + (s.getSize() - from);
+        int[] startDays = copy(prev == null ? null : prev.startDays, cap);
+        int[] firstIndex = copy(prev == null ? null : prev.firstIndex, cap);
+        double[] open = copy(prev == null ? null : prev.open, cap);
+        double[] high = copy(prev == null ? null : prev.high, cap);
+        double[] low = copy(prev == null ? null : prev.low, cap);
+        double[] close = copy(prev == null ? null : prev.close, cap);
+        double[] volume = copy(prev == null ? null : prev.volume, cap);
+        double[] fx = copy(prev == null ? null : prev.fxRate, cap);
+        double[] vx = copy(prev == null ? null : prev.vix, cap);
+
+        int[] days = s.getEpochDays();
+        double[] dOpen = s.getGoldOpen();
+        double[] dClose = s.getGoldClose();
+        double[] dVol = s.getEtfVolume();
+        double[] dFx = s.getFxRate();
+        double[] dVix = s.getVix();
+
+        int b = keep - 1;
+        long curStart = Long.MIN_VALUE;
+        for (int i = from; i < s.getSize(); i++) {
+            long start = r.bucketStart(days[i]);
+            if (start != curStart) {
+                b++;
+                curStart = start;
+                startDays[b] = (int) start;
+                firstIndex[b] = i;
+                open[b] = Double.NaN;
+                high[b] = Double.NaN;
+                low[b] = Double.NaN;
+                close[b] = Double.NaN;
+                volume[b] = Double.NaN;
+                fx[b] = Double.NaN;
+                vx[b] = Double.NaN;
+            }
+            double o = dOpen[i], c = dClose[i];
+            if (Double.isNaN(open[b])) open[b] = !Double.isNaN(o) ? o : c;
+            if (!Double.isNaN(c)) close[b] = c;
+            high[b] = max(high[b], max(o, c));
+            low[b] = min(low[b], min(o, c));
+            if (!Double.isNaN(dVol[i])) volume[b] = Double.isNaN(volume[b]) ? dVol[i] : volume[b] + dVol[i];
+            if (!Double.isNaN(dFx[i])) fx[b] = dFx[i];
+            if (!Double.isNaN(dVix[i])) vx[b] = dVix[i];
+        }
+
+        int n = b + 1;
+        return new QuoteRollup(r, n, s.getSize(),
+                Arrays.copyOf(startDays, n), Arrays.copyOf(firstIndex, n),
+                Arrays.copyOf(open, n), Arrays.copyOf(high, n), Arrays.copyOf(low, n),
+                Arrays.copyOf(close, n), Arrays.copyOf(volume, n),
+                Arrays.copyOf(fx, n), Arrays.copyOf(vx, n));
+    }
+
+    // NaN 은 없는 값으로 취급하는 max/min
+    private static double max(double a, double b) {
+        if (Double.isNaN(a)) return b;
+        if (Double.isNaN(b)) return a;
+        return Math.max(a, b);
+    }
+
+    private static double min(double a, double b) {
+        if (Double.isNaN(a)) return b;
+        if (Double.isNaN(b)) return a;
+        return Math.min(a, b);
+    }
+
+    private static int[] copy(int[] src, int cap) {
+        return src == null ? new int[cap] : Arrays.copyOf(src, cap);
+    }
+
+    private static double[] copy(double[] src, int cap) {
+        return src == null ? new double[cap] : Arrays.copyOf(src, cap);
+    }
+}
@@ -0,0 +1,160 @@
+package com.shinhan.backend.simulation.store;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * QUOTES_DAILY 전체를 컬럼 단위 primitive 배열로 들고 있는 불변 스냅샷.
+ * 행 i 의 날짜는 epochDays[i] (오름차순), 값이 없는 칸은 NaN 으로 채운다.
+ */
+@Getter
+public final class QuoteSeries {
+
+    public static final QuoteSeries EMPTY = new QuoteSeries(0, 1L, 1L, new int[0],
+            new double[0], new double[0], new double[0], new double[0],
+            new double[0], new double[0], new double[0], new double[0]);
+
+    private final int size;
+    private final long checksum;         // 내용 기반 버전 (ETag 용). 같은 데이터면 재시작 후에도 같다
+    private final long predChecksum;     // predClose 컬럼의 버전
+    private final int[] epochDays;
+    private final double[] goldOpen;     // KRW_G_OPEN
+    private final double[] goldClose;    // KRW_G_CLOSE
+    private final double[] usdOzOpen;
+    private final double[] usdOzClose;
+    private final double[] fxRate;
+    private final double[] vix;
+    private final double[] etfVolume;
+    private final double[] predClose;    // 전 거래일까지로 예측한 종가 (PredictionJob 이 채움)
+
+    private QuoteSeries(int size, long checksum, long predChecksum, int[] epochDays,
+                        double[] goldOpen, double[] goldClose,
+                        double[] usdOzOpen, double[] usdOzClose,
+                        double[] fxRate, double[] vix, double[] etfVolume, double[] predClose) {
+        this.size = size;
+        this.checksum = checksum;
+        this.predChecksum = predChecksum;
+        this.epochDays = epochDays;
+        this.goldOpen = goldOpen;
+        this.goldClose = goldClose;
+        this.usdOzOpen = usdOzOpen;
+        this.usdOzClose = usdOzClose;
+        this.fxRate = fxRate;
+        this.vix = vix;
+        this.etfVolume = etfVolume;
+        this.predClose = predClose;
+    }
+
+    public static QuoteSeries of(List<QuotesDaily> rows) {
+        return EMPTY.append(rows);
+    }
+
+    /** 마지막 날짜 이후의 행들(날짜 오름차순)을 덧붙인 새 스냅샷. 기존 스냅샷은 그대로 유지된다. */
+    public QuoteSeries append(List<QuotesDaily> rows) {
+        if (rows.isEmpty()) return this;
+        int n = size + rows.size();
+        int[] days = Arrays.copyOf(epochDays, n);
+        double[] gOpen = Arrays.copyOf(goldOpen, n);
+        double[] gClose = Arrays.copyOf(goldClose, n);
+        double[] uOpen = Arrays.copyOf(usdOzOpen, n);
+        double[] uClose = Arrays.copyOf(usdOzClose, n);
+        double[] fx = Arrays.copyOf(fxRate, n);
+        double[] vx = Arrays.copyOf(vix, n);
+        double[] etf = Arrays.copyOf(etfVolume, n);
+        double[] pred = Arrays.copyOf(predClose, n);
+        boolean predLoaded = false;
+
+        int i = size;
+        long h = checksum;
+        int last = size > 0 ? epochDays[size - 1] : Integer.MIN_VALUE;
+        for (QuotesDaily q : rows) {
+            int day = (int) q.getDate().toEpochDay();
+            if (day <= last) {
+                throw new IllegalArgumentException("시세는 날짜 오름차순으로만 추가할 수 있습니다: " + q.getDate());
+            }
+            days[i] = day;
+            gOpen[i] = unbox(q.getKrwGOpen());
+            gClose[i] = unbox(q.getKrwGClose());
+            uOpen[i] = unbox(q.getUsdOzOpen());
+            uClose[i] = unbox(q.getUsdOzClose());
+            fx[i] = unbox(q.getFxRate());
+            vx[i] = unbox(q.getVix());
+            etf[i] = unbox(q.getEtfVolume());
+            pred[i] = unbox(q.getPredClose());
+            predLoaded |= q.getPredClose() != null;
+            h = 31 * h + day;
+            h = 31 * h + Double.doubleToLongBits(gOpen[i]);
+            h = 31 * h + Double.doubleToLongBits(gClose[i]);
+            h = 31 * h + Double.doubleToLongBits(uOpen[i]);
+            h = 31 * h + Double.doubleToLongBits(uClose[i]);
+            h = 31 * h + Double.doubleToLongBits(fx[i]);
+            h = 31 * h + Double.doubleToLongBits(vx[i]);
+            h = 31 * h + Double.doubleToLongBits(etf[i]);
+            last = day;
+            i++;
+        }
+        long ph = predLoaded ? predHash(pred) : predChecksum;
+        return new QuoteSeries(n, h, ph, days, gOpen, gClose, uOpen, uClose, fx, vx, etf, pred);
+    }
+
+    /** 인덱스 from 부터 values 로 예측 컬럼을 바꾼 새 스냅샷 (size 를 넘는 값은 무시) */
+    public QuoteSeries withPredictions(int from, double[] values) {
+        double[] pred = Arrays.copyOf(predClose, size);
+        int n = Math.min(values.length, size - from);
+        if (n > 0) System.arraycopy(values, 0, pred, from, n);
+        return new QuoteSeries(size, checksum, predHash(pred), epochDays, goldOpen, goldClose,
+                usdOzOpen, usdOzClose, fxRate, vix, etfVolume, pred);
+    }
+
+    private static long predHash(double[] pred) {
+        long h = 1;
+        for (double v : pred) h = 31 * h + Double.doubleToLongBits(v);
+        return h;
+    }
+
+    /** 시세 + 예측을 합친 데이터 버전 */
+    public long version() {
+        return 31 * checksum + predChecksum;
+    }
+
+    /** epochDay 이상인 첫 행의 인덱스 (없으면 size) */
+    public int lowerBound(long epochDay) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays[mid] < epochDay) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** epochDay 보다 큰 첫 행의 인덱스 (없으면 size) */
+    public int upperBound(long epochDay) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays[mid] <= epochDay) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    public LocalDate dateAt(int i) {
+        return LocalDate.ofEpochDay(epochDays[i]);
+    }
+
+    /** 비어 있으면 null */
+    public LocalDate lastDate() {
+        return size == 0 ? null : dateAt(size - 1);
+    }
+
+    public static Double box(double v) {
+        return Double.isNaN(v) ? null : v;
+    }
+
+    private static double unbox(Double v) {
+        return v == null ? Double.NaN : v;
+    }
+}
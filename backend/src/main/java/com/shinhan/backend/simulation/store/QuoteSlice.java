@@ -0,0 +1,32 @@
+package com.shinhan.backend.simulation.store;
+
+import lombok.Getter;
+
+/**
+ * 스냅샷의 일부 행을 가리키는 뷰. 값을 복사하지 않는다.
+ * picked 가 null 이면 [lo, hi) 연속 구간, 아니면 picked 에 든 인덱스들(다운샘플링 결과).
+ */
+@Getter
+public final class QuoteSlice {
+
+    private final QuoteSeries series;
+    private final int lo;
+    private final int hi;
+    private final int[] picked;
+
+    public QuoteSlice(QuoteSeries series, int lo, int hi, int[] picked) {
+        this.series = series;
+        this.lo = lo;
+        this.hi = hi;
+        this.picked = picked;
+    }
+
+    public int size() {
+        return picked != null ? picked.length : Math.max(0, hi - lo);
+    }
+
+    /** k 번째 행의 스냅샷 인덱스 */
+    public int index(int k) {
+        return picked != null ? picked[k] : lo + k;
+    }
+}
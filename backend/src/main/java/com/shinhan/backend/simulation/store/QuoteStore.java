@@ -0,0 +1,136 @@
+package com.shinhan.backend.simulation.store;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import com.shinhan.backend.simulation.mapper.QuotesMapper;
+import com.shinhan.backend.simulation.prediction.PricePredictionModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * QUOTES_DAILY 를 한 번만 읽어 메모리에 올려두고, 이후에는 새로 들어온 날짜만 덧붙인다.
+ * 조회는 항상 volatile 스냅샷(시리즈 + 롤업 한 묶음)을 읽으므로 락이 없다.
+ * 예측 종가는 QUOTES_PREDICTION 에 저장된 값을 같이 읽으므로 재시작해도 다시 계산할 필요가 없다.
+ * 주/월/연 OHLC 롤업도 같이 들고 있으며, 새 행이 붙을 때 마지막 구간부터만 다시 계산한다.
+ * 쓰기는 JDBC 조회를 감싸므로 synchronized 대신 ReentrantLock 을 쓴다 (가상 스레드가 캐리어 스레드를 붙잡지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteStore {
+
+    private final QuotesMapper quotesMapper;
+    private final PricePredictionModel predictionModel;   // 저장된 예측(QUOTES_PREDICTION.MODEL)을 같이 읽는다
+    private final ApplicationEventPublisher events;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile State state;   // null = 아직 로드 전
+
+    // 시리즈와 그 시리즈로 만든 롤업을 한 번에 바꾼다 (새 시리즈 + 옛 롤업 조합이 보이지 않게)
+    private static final class State {
+        final QuoteSeries series;
+        final Map<QuoteResolution, QuoteRollup> rollups;
+
+        State(QuoteSeries series, Map<QuoteResolution, QuoteRollup> rollups) {
+            this.series = series;
+            this.rollups = rollups;
+        }
+    }
+
+    public QuoteSeries snapshot() {
+        State st = state;
+        return st != null ? st.series : refresh();
+    }
+
+    public QuoteRollup rollup(QuoteResolution resolution) {
+        State st = state;
+        if (st == null) {
+            refresh();
+            st = state;
+        }
+        return st.rollups.get(resolution);
+    }
+
+    /** 마지막 날짜 이후의 행만 읽어 덧붙인다. 최초 호출이면 전체 로드 */
+    public QuoteSeries refresh() {
+        writeLock.lock();
+        try {
+            State st = state;
+            if (st == null) return reload();
+
+            QuoteSeries cur = st.series;
+            List<QuotesDaily> rows = quotesMapper.selectDailyAfter(cur.lastDate(), predictionModel.name());
+            if (!rows.isEmpty()) {
+                cur = cur.append(rows);
+                Map<QuoteResolution, QuoteRollup> next = new EnumMap<>(QuoteResolution.class);
+                for (QuoteRollup r : st.rollups.values()) next.put(r.getResolution(), r.extend(cur));
+                state = new State(cur, next);
+                log.info("quote store: +{} rows (total {}, last {})", rows.size(), cur.getSize(), cur.lastDate());
+                events.publishEvent(new QuotesAppendedEvent(cur, cur.getSize() - rows.size()));
+            }
+            return cur;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 과거 날짜가 수정된 경우 등, 전체를 다시 읽는다 */
+    public QuoteSeries reload() {
+        writeLock.lock();
+        try {
+            QuoteSeries loaded = QuoteSeries.of(quotesMapper.selectDailyAfter(null, predictionModel.name()));
+            Map<QuoteResolution, QuoteRollup> next = new EnumMap<>(QuoteResolution.class);
+            for (QuoteResolution r : QuoteResolution.values()) next.put(r, QuoteRollup.build(loaded, r));
+            state = new State(loaded, next);
+            log.info("quote store: loaded {} rows (last {})", loaded.getSize(), loaded.lastDate());
+            events.publishEvent(new QuotesAppendedEvent(loaded, 0));
+            return loaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * basis 기준으로 계산한 예측값을 현재 스냅샷에 반영한다.
+     * 그 사이 전체 재적재로 인덱스가 어긋났다면 버린다 (다음 배치가 다시 채운다).
+     */
+    public void applyPredictions(QuoteSeries basis, int from, double[] values) {
+        writeLock.lock();
+        try {
+            State st = state;
+            int n = basis.getSize();
+            if (st == null || st.series.getSize() < n) return;
+            QuoteSeries cur = st.series;
+            if (n > 0 && cur.getEpochDays()[n - 1] != basis.getEpochDays()[n - 1]) return;
+            // 롤업은 예측 컬럼을 쓰지 않으므로 그대로 둔다
+            state = new State(cur.withPredictions(from, values), st.rollups);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 첫 요청이 적재 비용을 떠안지 않도록 기동 직후 미리 읽어둔다
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("quote store warm-up failed, will load on first use", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${simulation.quotes.refresh-ms:600000}",
+               fixedDelayString = "${simulation.quotes.refresh-ms:600000}")
+    void scheduledRefresh() {
+        refresh();
+    }
+}
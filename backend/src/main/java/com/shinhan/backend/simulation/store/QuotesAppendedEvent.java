@@ -0,0 +1,12 @@
+package com.shinhan.backend.simulation.store;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// QuoteStore 에 새 일별 행이 붙었을 때 (전체 재적재면 fromIndex = 0)
+@Getter
+@RequiredArgsConstructor
+public class QuotesAppendedEvent {
+    private final QuoteSeries series;
+    private final int fromIndex;     // 새로 붙은 첫 행의 인덱스
+}
@@ -0,0 +1,68 @@
+package com.shinhan.backend.simulationHistory.aggregate;
+
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 메모리 누적 통계를 selectHistorySummary(전체 재계산)와 주기적으로 맞춰 본다.
+ * 어긋난 회원은 버려서 다음 조회 때 DB 에서 새로 쌓게 한다 (그 자리에서 덮어쓰면 그 사이 이벤트를 잃을 수 있음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryAggregateReconciler {
+
+    private static final double EPS = 1e-6;
+
+    private final HistoryAggregates aggregates;
+    private final SimulationHistoryMapper mapper;
+
+    @Scheduled(cron = "${history.aggregate.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /** @return 어긋나서 버린 회원 수 */
+    public int reconcile() {
+        int checked = 0, mismatched = 0;
+        for (Long memberNo : aggregates.cachedMembers()) {
+            PnlAggregate a = aggregates.cached(memberNo);
+            if (a == null) continue;
+            Map<String,Object> s = mapper.selectHistorySummary(memberNo);
+            checked++;
+            boolean same;
+            synchronized (a) {
+                same = a.total() == longOf(s, "total")
+                        && a.correct() == longOf(s, "correct")
+                        && a.wrong() == longOf(s, "wrong")
+                        && close(a.totalPnl(), doubleOf(s, "totalPnl"))
+                        && close(a.maxPnl(), doubleOf(s, "maxPnl"))
+                        && close(a.minPnl(), doubleOf(s, "minPnl"));
+            }
+            if (!same) {
+                mismatched++;
+                log.warn("history aggregate drift for member {}: db={}, rebuilding", memberNo, s);
+                aggregates.invalidate(memberNo);
+            }
+        }
+        log.info("history aggregate reconcile: {} checked, {} rebuilt", checked, mismatched);
+        return mismatched;
+    }
+
+    private static long longOf(Map<String,Object> m, String k) {
+        return ((Number) m.getOrDefault(k, 0)).longValue();
+    }
+
+    private static double doubleOf(Map<String,Object> m, String k) {
+        return ((Number) m.getOrDefault(k, 0)).doubleValue();
+    }
+
+    private static boolean close(double a, double b) {
+        return Math.abs(a - b) <= EPS * Math.max(1, Math.abs(b));
+    }
+}
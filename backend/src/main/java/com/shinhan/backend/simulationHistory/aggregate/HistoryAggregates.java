@@ -0,0 +1,99 @@
+package com.shinhan.backend.simulationHistory.aggregate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import com.shinhan.backend.simulationHistory.dto.HistorySummaryDto;
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 회원별 PnlAggregate 보관소. 처음 조회할 때 한 번 DB 에서 쌓고, 이후에는 쓰기 / 채점 경로가
+ * record* 로 한 건씩 반영하므로 요약 조회는 O(1) 이다.
+ * 메모리에 없는 회원의 이벤트는 버린다 (다음 조회 때 DB 에서 새로 쌓으면 이미 반영되어 있다).
+ * 적재와 쓰기가 정확히 겹치면 드물게 한 건이 두 번 반영될 수 있는데, HistoryAggregateReconciler 가 찾아내 다시 쌓게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryAggregates {
+
+    private final SimulationHistoryMapper mapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<Long, PnlAggregate> aggregates = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .recordStats()
+            .build();
+
+    // 요약 조회 적중률 = 적재(load) 없이 끝난 비율
+    @PostConstruct
+    void bindMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, aggregates, "history.aggregates");
+    }
+
+    public HistorySummaryDto summary(Long memberNo) {
+        PnlAggregate a = aggregates.getIfPresent(memberNo);
+        if (a == null) {
+            // 적재는 캐시 compute 밖에서: compute 는 ConcurrentHashMap 빈 락(synchronized) 안에서 돌기 때문에
+            // 이력 전체를 읽는 동안 같은 빈의 다른 회원이 막히고, 가상 스레드는 캐리어까지 고정된다.
+            // 동시에 두 번 적재되면 먼저 들어간 쪽을 쓴다.
+            PnlAggregate loaded = load(memberNo);
+            a = aggregates.asMap().putIfAbsent(memberNo, loaded);
+            if (a == null) a = loaded;
+        }
+        synchronized (a) {
+            long unsolved = a.total() - a.correct() - a.wrong();
+            double acc = (a.correct() + a.wrong()) > 0 ? (double) a.correct() / (a.correct() + a.wrong()) : 0.0;
+            return new HistorySummaryDto(a.total(), a.correct(), a.wrong(), unsolved,
+                    a.totalPnl(), a.avgPnl(), a.maxPnl(), a.minPnl(), acc,
+                    a.pnlVariance(), a.sharpe(), a.maxDrawdown(), a.streak());
+        }
+    }
+
+    /** 커밋된 뒤 호출: 채점 전 행 rows 개 추가 */
+    public void recordSubmitted(Long memberNo, int rows) {
+        PnlAggregate a = aggregates.getIfPresent(memberNo);
+        if (a == null) return;
+        synchronized (a) {
+            a.submitted(rows);
+        }
+    }
+
+    /** 커밋된 뒤 호출: 행 하나 채점 */
+    public void recordGraded(Long memberNo, boolean correct, Double pnl) {
+        PnlAggregate a = aggregates.getIfPresent(memberNo);
+        if (a == null) return;
+        synchronized (a) {
+            a.graded(correct, pnl);
+        }
+    }
+
+    /** 다음 조회 때 DB 에서 다시 쌓게 한다 */
+    public void invalidate(Long memberNo) {
+        aggregates.invalidate(memberNo);
+    }
+
+    Set<Long> cachedMembers() {
+        return Set.copyOf(aggregates.asMap().keySet());
+    }
+
+    PnlAggregate cached(Long memberNo) {
+        return aggregates.getIfPresent(memberNo);
+    }
+
+    // 한 행씩 흘려받아 쌓는다 (회원 이력 전체를 리스트로 올리지 않음)
+    PnlAggregate load(Long memberNo) {
+        PnlAggregate a = new PnlAggregate();
+        mapper.selectPnlRows(memberNo, ctx -> {
+            SimulationHistory h = ctx.getResultObject();
+            a.loadRow(h.getHistoryPredict(), h.getHistoryResult(), h.getPnl());
+        });
+        return a;
+    }
+}
@@ -0,0 +1,107 @@
+package com.shinhan.backend.simulationHistory.aggregate;
+
+/**
+ * 회원 한 명의 학습 이력 누적 통계. 행 추가(submitted)와 채점(graded)을 한 건씩 반영하며 모두 O(1).
+ * total / correct / wrong / totalPnl / avg / max / min 은 selectHistorySummary 와 같은 정의다
+ * (PNL 이 없는 행은 0 으로 본다). 분산 / 샤프 / 낙폭 / 연속 기록은 PNL 이 확정된 행만으로 계산하고,
+ * 낙폭과 연속 기록은 반영된 순서(적재 시 HISTORY_NO 순, 이후 채점 순)를 따른다.
+ * 스레드 안전하지 않다. 소유자(HistoryAggregates)가 인스턴스 단위로 잠근다.
+ */
+public final class PnlAggregate {
+
+    private long total, correct, wrong;
+    private long pending;                   // PNL 이 아직 없는 행 (합계 / 최대 / 최소에서 0 으로 취급)
+    private long settled;                   // PNL 이 있는 행
+    private double sumPnl;
+    private double mean, m2;                // 확정 PNL 의 Welford 평균 / 제곱편차합
+    private double max = Double.NEGATIVE_INFINITY, min = Double.POSITIVE_INFINITY;
+    private double cumPnl, peak, maxDrawdown;
+    private int streak;                     // +n: n 연속 정답, -n: n 연속 오답
+
+    /** 채점 전 행 n 개가 추가됨 */
+    public void submitted(long n) {
+        total += n;
+        pending += n;
+    }
+
+    /** 채점 전이던 행 하나가 채점됨 (pnl 이 null 이면 결과만 반영) */
+    public void graded(boolean isCorrect, Double pnl) {
+        result(isCorrect);
+        if (pnl != null) {
+            if (pending > 0) pending--;
+            settle(pnl);
+        }
+    }
+
+    /** DB 에서 다시 쌓을 때: 행 하나를 현재 상태 그대로 반영 */
+    public void loadRow(String predict, String result, Double pnl) {
+        total++;
+        if (result != null) result(result.equals(predict));
+        if (pnl == null) pending++; else settle(pnl);
+    }
+
+    private void result(boolean isCorrect) {
+        if (isCorrect) {
+            correct++;
+            streak = streak > 0 ? streak + 1 : 1;
+        } else {
+            wrong++;
+            streak = streak < 0 ? streak - 1 : -1;
+        }
+    }
+
+    private void settle(double pnl) {
+        settled++;
+        sumPnl += pnl;
+        double d = pnl - mean;
+        mean += d / settled;
+        m2 += d * (pnl - mean);
+        max = Math.max(max, pnl);
+        min = Math.min(min, pnl);
+        cumPnl += pnl;
+        peak = Math.max(peak, cumPnl);
+        maxDrawdown = Math.max(maxDrawdown, peak - cumPnl);
+    }
+
+    public long total() { return total; }
+    public long correct() { return correct; }
+    public long wrong() { return wrong; }
+    public double totalPnl() { return sumPnl; }
+
+    /** AVG(COALESCE(PNL, 0)) */
+    public double avgPnl() {
+        return total > 0 ? sumPnl / total : 0;
+    }
+
+    /** MAX(COALESCE(PNL, 0)), 행이 없으면 0 */
+    public double maxPnl() {
+        if (total == 0) return 0;
+        return pending > 0 ? Math.max(max, 0) : max;
+    }
+
+    /** MIN(COALESCE(PNL, 0)), 행이 없으면 0 */
+    public double minPnl() {
+        if (total == 0) return 0;
+        return pending > 0 ? Math.min(min, 0) : min;
+    }
+
+    /** 확정 PNL 의 표본분산 */
+    public double pnlVariance() {
+        return settled > 1 ? m2 / (settled - 1) : 0;
+    }
+
+    /** 건당 평균 / 표준편차 (연율화하지 않음) */
+    public double sharpe() {
+        double sd = Math.sqrt(pnlVariance());
+        return sd > 0 ? mean / sd : 0;
+    }
+
+    /** 누적 손익의 고점 대비 최대 하락폭 (양수) */
+    public double maxDrawdown() {
+        return maxDrawdown;
+    }
+
+    public int streak() {
+        return streak;
+    }
+}
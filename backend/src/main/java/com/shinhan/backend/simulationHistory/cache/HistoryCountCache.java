@@ -0,0 +1,46 @@
+package com.shinhan.backend.simulationHistory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * (회원, 기간, type) 별 이력 건수 캐시. 키에 HistoryVersions 의 회원 버전을 넣으므로
+ * 이력이 바뀌면(bump) 자동으로 새 키가 되고, 옛 항목은 크기 / 시간 제한으로 밀려난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryCountCache {
+
+    private final HistoryVersions versions;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, Long> counts = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    void bindMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "history.count");
+    }
+
+    public long get(Long memberNo, LocalDate from, LocalDate to, String type, Supplier<Long> loader) {
+        String key = memberNo + "|" + versions.current(memberNo) + "|" + from + "|" + to + "|" + (type == null ? "" : type);
+        Long hit = counts.getIfPresent(key);
+        if (hit != null) return hit;
+        // COUNT 쿼리는 compute(빈 락) 밖에서 돌린다 (HistoryAggregates 와 같은 이유)
+        long loaded = loader.get();
+        counts.put(key, loaded);
+        return loaded;
+    }
+}
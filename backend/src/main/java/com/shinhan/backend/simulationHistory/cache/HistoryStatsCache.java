@@ -0,0 +1,83 @@
+package com.shinhan.backend.simulationHistory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import com.shinhan.backend.simulationHistory.dto.HistoryStatsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * (회원, 기간, type) 별 정답 통계 캐시. 통계는 회원 이력과 QUOTES_DAILY(이력 없는 거래일 = unsolved) 둘 다에
+ * 의존하므로 키에 회원 버전과 시세 버전을 함께 넣는다. 어느 쪽이든 바뀌면 새 키가 되어 다시 계산하고,
+ * 옛 항목은 다시 읽히지 않아 W-TinyLFU 가 먼저 밀어낸다. 항목 수 상한이 있어 활성 회원 수와 무관하게 메모리가 묶인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryStatsCache {
+
+    private final HistoryVersions versions;
+    private final QuoteStore quoteStore;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, HistoryStatsDto> stats = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .recordStats()
+            .build();
+
+    // cache.gets{result=hit|miss}, cache.evictions 등 (/actuator/metrics)
+    @PostConstruct
+    void bindMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, stats, "history.stats");
+    }
+
+    public HistoryStatsDto get(Long memberNo, String from, String to, String type, Supplier<HistoryStatsDto> loader) {
+        String key = prefix(memberNo, from, to) + (type == null ? "" : type);
+        HistoryStatsDto hit = stats.getIfPresent(key);
+        if (hit != null) return hit;
+        // 집계 쿼리는 compute(빈 락) 밖에서 돌린다: 느린 적재가 같은 빈의 다른 키를 막거나 가상 스레드를 고정하지 않게
+        HistoryStatsDto loaded = loader.get();
+        HistoryStatsDto prev = stats.asMap().putIfAbsent(key, loaded);
+        return prev != null ? prev : loaded;
+    }
+
+    /**
+     * 여러 type 의 통계를 한 번에 (overview 의 전체 / 매수 / 매도). 하나라도 없으면 loader(타입별 집계 한 번)로 모두 채운다.
+     * 키는 get 과 같으므로 getHistoryStats 와 항목을 나눠 쓴다. 전체는 type "" 이다.
+     */
+    public Map<String, HistoryStatsDto> getAll(Long memberNo, String from, String to, List<String> types,
+                                               Supplier<Map<String, HistoryStatsDto>> loader) {
+        String prefix = prefix(memberNo, from, to);
+        Map<String, HistoryStatsDto> out = new HashMap<>();
+        for (String type : types) {
+            HistoryStatsDto hit = stats.getIfPresent(prefix + type);
+            if (hit == null) break;
+            out.put(type, hit);
+        }
+        if (out.size() == types.size()) return out;
+
+        Map<String, HistoryStatsDto> loaded = loader.get();
+        for (String type : types) {
+            HistoryStatsDto v = loaded.get(type);
+            HistoryStatsDto prev = stats.asMap().putIfAbsent(prefix + type, v);
+            out.put(type, prev != null ? prev : v);
+        }
+        return out;
+    }
+
+    // 버전은 적재 전에 읽어 키에 넣는다: 적재 중에 바뀌면 옛 버전 키에 담겨 다시 읽히지 않는다
+    private String prefix(Long memberNo, String from, String to) {
+        return memberNo + "|" + versions.current(memberNo) + "|" + quoteStore.snapshot().version()
+                + "|" + from + "|" + to + "|";
+    }
+}
@@ -0,0 +1,33 @@
+package com.shinhan.backend.simulationHistory.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 학습 이력 쓰기 카운터. SIMULATION_HISTORY 를 바꾸는 모든 경로는 bump 를 호출해야 한다.
+ * 값 자체는 재시작하면 0 부터 다시 시작하므로, 인스턴스 시작 시각을 함께 써서 ETag 가 겹치지 않게 한다.
+ */
+@Component
+public class HistoryVersions {
+
+    private final String instance = Long.toHexString(System.currentTimeMillis());
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(Long memberNo) {
+        AtomicLong v = versions.get(memberNo);
+        return v == null ? 0 : v.get();
+    }
+
+    public void bump(Long memberNo) {
+        versions.computeIfAbsent(memberNo, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /** 약한 ETag. kind 는 응답 종류, extra 는 회원 이력 외에 응답이 의존하는 버전(없으면 0) */
+    public String etag(String kind, Long memberNo, long extra) {
+        return "W/\"h-" + kind + "-" + instance + "-" + memberNo + "-" + current(memberNo)
+                + "-" + Long.toHexString(extra) + "\"";
+    }
+}
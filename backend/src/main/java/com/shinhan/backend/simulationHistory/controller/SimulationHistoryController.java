@@ -1,16 +1,27 @@
 package com.shinhan.backend.simulationHistory.controller;
 
+import com.shinhan.backend.config.ConditionalGet;
+import com.shinhan.backend.simulation.service.SimulationDashboardService;
+import com.shinhan.backend.simulationHistory.cache.HistoryVersions;
 import com.shinhan.backend.simulationHistory.dto.HistoryListDto;
+import com.shinhan.backend.simulationHistory.dto.HistoryOverviewDto;
 import com.shinhan.backend.simulationHistory.dto.HistoryStatsDto;
 import com.shinhan.backend.simulationHistory.dto.HistorySummaryDto;
+import com.shinhan.backend.simulationHistory.dto.PredictionSubmitDto;
+import com.shinhan.backend.simulationHistory.paging.HistoryCursor;
 import com.shinhan.backend.simulationHistory.service.SimulationHistoryService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,7 +29,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SimulationHistoryController {
 
+    // 회원별 응답이므로 private, 매번 ETag 로 재검증
+    private static final CacheControl HISTORY_CACHE = CacheControl.noCache().cachePrivate();
+    private static final int MAX_BULK = 5000;
+
     private final SimulationHistoryService service;
+    private final HistoryVersions versions;
+    private final SimulationDashboardService quotes;   // stats 는 QUOTES_DAILY 에도 의존
 
     @GetMapping
     public HistoryListDto getHistory(
@@ -28,11 +45,14 @@ public class SimulationHistoryController {
             @RequestParam(defaultValue = "date,desc") String sort,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            HttpSession session
+            @RequestParam(required = false) String cursor,   // 이전 응답의 nextCursor (있으면 page 무시)
+            HttpSession session,
+            ServletWebRequest webRequest
     ) {
         Object uno = session.getAttribute("LOGIN_NO");
         if (uno == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         Long memberNo = Long.valueOf(uno.toString());
+        if (ConditionalGet.notModified(webRequest, HISTORY_CACHE, versions.etag("list", memberNo, 0))) return null;
 
         return service.getHistory(
                 memberNo,
@@ -41,7 +61,8 @@ public class SimulationHistoryController {
                 type,
                 sort,
                 page,
-                size
+                size,
+                parseCursor(cursor, sort)
         );
     }
 
@@ -49,18 +70,99 @@ public class SimulationHistoryController {
     public HistoryStatsDto getStats(@RequestParam String from,
                                     @RequestParam String to,
                                     @RequestParam(defaultValue = "") String type,
-                                    HttpSession session) {
+                                    HttpSession session,
+                                    ServletWebRequest webRequest) {
         Object uno = session.getAttribute("LOGIN_NO");
         if (uno == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         Long memberNo = Long.valueOf(uno.toString());
+        String etag = versions.etag("stats", memberNo, quotes.getQuotesVersion());
+        if (ConditionalGet.notModified(webRequest, HISTORY_CACHE, etag)) return null;
         return service.getHistoryStats(memberNo, from, to, type);
     }
 
     @GetMapping("/summary")
-    public HistorySummaryDto getSummary(HttpSession session) {
+    public HistorySummaryDto getSummary(HttpSession session, ServletWebRequest webRequest) {
         Object uno = session.getAttribute("LOGIN_NO");
         if (uno == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         Long memberNo = Long.valueOf(uno.toString());
+        if (ConditionalGet.notModified(webRequest, HISTORY_CACHE, versions.etag("summary", memberNo, 0))) return null;
         return service.getHistorySummary(memberNo);
     }
+
+    // 목록 + 통계(전체/매수/매도) + 요약을 한 번에: 화면 진입 시 왕복 1회
+    @GetMapping("/overview")
+    public HistoryOverviewDto getOverview(
+            @RequestParam(defaultValue = "2023-01-01") String from,
+            @RequestParam(defaultValue = "2024-12-31") String to,
+            @RequestParam(defaultValue = "") String type,
+            @RequestParam(defaultValue = "date,desc") String sort,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,   // 이전 응답의 nextCursor (있으면 page 무시)
+            HttpSession session,
+            ServletWebRequest webRequest
+    ) {
+        Object uno = session.getAttribute("LOGIN_NO");
+        if (uno == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        Long memberNo = Long.valueOf(uno.toString());
+        String etag = versions.etag("overview", memberNo, quotes.getQuotesVersion());
+        if (ConditionalGet.notModified(webRequest, HISTORY_CACHE, etag)) return null;
+
+        return service.getOverview(
+                memberNo,
+                LocalDate.parse(from),
+                LocalDate.parse(to),
+                type,
+                sort,
+                page,
+                size,
+                parseCursor(cursor, sort)
+        );
+    }
+
+    // 예측 제출 (단건). 저장은 비동기로 묶어서 하므로 202 Accepted
+    // 예: POST /api/history  {"date":"2024-03-05","type":"매수","predict":"상승"}
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> submit(@RequestBody PredictionSubmitDto body, HttpSession session) {
+        return submitAll(List.of(body), session);
+    }
+
+    // 예측 제출 (다건, 최대 MAX_BULK). 전부 받거나 전부 거절한다
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> submitBulk(@RequestBody List<PredictionSubmitDto> body, HttpSession session) {
+        if (body.isEmpty() || body.size() > MAX_BULK) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 1 ~ " + MAX_BULK + "건까지 제출할 수 있습니다.");
+        }
+        return submitAll(body, session);
+    }
+
+    private ResponseEntity<Map<String, Object>> submitAll(List<PredictionSubmitDto> body, HttpSession session) {
+        Object uno = session.getAttribute("LOGIN_NO");
+        if (uno == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        Long memberNo = Long.valueOf(uno.toString());
+        try {
+            int accepted = service.submitPredictions(memberNo, body);
+            return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            // 큐가 가득 참: 잠시 뒤 재시도하라고 알린다
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("accepted", 0, "message", e.getMessage()));
+        }
+    }
+
+    private static HistoryCursor parseCursor(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            HistoryCursor c = HistoryCursor.decode(cursor);
+            if (c.isAscending() != "date,asc".equals(sort)) {
+                throw new IllegalArgumentException("cursor 와 sort 방향이 다릅니다.");
+            }
+            return c;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
 }
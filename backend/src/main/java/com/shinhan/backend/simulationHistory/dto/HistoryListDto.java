@@ -12,4 +12,5 @@ public class HistoryListDto {
     private int page;
     private int size;
     private long total;
+    private String nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null). cursor 파라미터로 그대로 보내면 된다
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.shinhan.backend.simulationHistory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 학습 이력 화면 한 번 그리는 데 필요한 것 전부 (/api/history/overview)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryOverviewDto {
+    private HistoryListDto list;        // 현재 필터/페이지 목록
+    private HistoryStatsDto stats;      // 현재 type 필터 기준 통계 (= all / buy / sell 중 하나)
+    private HistoryStatsDto all;        // [from, to] 전체
+    private HistoryStatsDto buy;        // [from, to] 매수
+    private HistoryStatsDto sell;       // [from, to] 매도
+    private HistorySummaryDto summary;  // 전체 기간 요약
+}
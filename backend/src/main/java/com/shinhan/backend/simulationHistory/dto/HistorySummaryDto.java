@@ -12,4 +12,10 @@ import lombok.Setter;
 public class HistorySummaryDto {
     private long total, correct, wrong, unsolved;
     private double totalPnl, avgPnl, maxPnl, minPnl, accuracy;
+
+    // 확정 손익 기준 스트리밍 통계
+    private double pnlVariance;     // 표본분산
+    private double sharpe;          // 건당 평균 / 표준편차
+    private double maxDrawdown;     // 누적 손익 고점 대비 최대 하락폭
+    private int streak;             // +n: n 연속 정답, -n: n 연속 오답
 }
\ No newline at end of file
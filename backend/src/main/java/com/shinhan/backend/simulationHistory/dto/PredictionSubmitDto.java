@@ -0,0 +1,16 @@
+package com.shinhan.backend.simulationHistory.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 예측 제출 한 건. 예: {"date":"2024-03-05","type":"매수","predict":"상승","note":"..."}
+@Getter
+@Setter
+@NoArgsConstructor
+public class PredictionSubmitDto {
+    private String date;      // yyyy-MM-dd, 예측 기준일
+    private String type;      // 매수 / 매도
+    private String predict;   // 상승 / 하락 (다음 거래일 종가 방향)
+    private String note;
+}
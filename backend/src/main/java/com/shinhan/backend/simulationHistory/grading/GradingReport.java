@@ -0,0 +1,39 @@
+package com.shinhan.backend.simulationHistory.grading;
+
+/**
+ * 채점 한 번 실행 결과. scanned 중 다음 종가가 없는 날짜(휴장일에 낸 예측 등)의 행은 채점되지 않고 남는다.
+ */
+public final class GradingReport {
+
+    private final long graded;
+    private final long scanned;
+    private final long chunks;
+    private final long elapsedNanos;
+
+    GradingReport(long graded, long scanned, long chunks, long elapsedNanos) {
+        this.graded = graded;
+        this.scanned = scanned;
+        this.chunks = chunks;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long graded() {
+        return graded;
+    }
+
+    public long scanned() {
+        return scanned;
+    }
+
+    public long chunks() {
+        return chunks;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double rowsPerSecond() {
+        return elapsedNanos > 0 ? graded * 1e9 / elapsedNanos : 0;
+    }
+}
@@ -0,0 +1,131 @@
+package com.shinhan.backend.simulationHistory.grading;
+
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import com.shinhan.backend.simulation.store.QuotesAppendedEvent;
+import com.shinhan.backend.simulationHistory.aggregate.HistoryAggregates;
+import com.shinhan.backend.simulationHistory.cache.HistoryVersions;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채점 대기(HISTORY_RESULT IS NULL) 예측을 QUOTES_DAILY 로 채점한다.
+ * - 새 시세가 붙으면(QuotesAppendedEvent) 새로 채점 가능해진 날짜부터
+ * - 매일 한 번(cron) 전체를 훑어 빠진 것을 마저 채점
+ * HISTORY_NO 키셋으로 chunk-size 개씩 골라 UPDATE ... JOIN 한 번으로 처리하고 청크마다 커밋하므로
+ * 행 잠금은 청크 하나 동안만 잡힌다. 채점은 HISTORY_RESULT IS NULL 인 행만 건드리므로
+ * 중간에 죽어도 다음 실행이 남은 행부터 이어서 하고, 같은 행을 두 번 채점하지 않는다.
+ */
+@Slf4j
+@Component
+public class HistoryGradingJob {
+
+    private final SimulationHistoryMapper mapper;
+    private final QuoteStore quoteStore;
+    private final HistoryVersions versions;
+    private final HistoryAggregates aggregates;
+    private final int chunkSize;
+    private final long pauseMs;
+
+    // 채점은 한 번에 하나씩만 (이벤트/cron 이 겹쳐도 순서대로). 채점하는 쪽이 하나뿐이라
+    // 청크에서 고른 행은 곧 이번 UPDATE 가 채점한 행이다
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "history-grading");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public HistoryGradingJob(SimulationHistoryMapper mapper, QuoteStore quoteStore,
+                             HistoryVersions versions, HistoryAggregates aggregates,
+                             @Value("${history.grading.chunk-size:1000}") int chunkSize,
+                             @Value("${history.grading.pause-ms:5}") long pauseMs) {
+        this.mapper = mapper;
+        this.quoteStore = quoteStore;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @EventListener
+    public void onQuotesAppended(QuotesAppendedEvent e) {
+        QuoteSeries s = e.getSeries();
+        if (s.getSize() < 2) return;
+        // 새 첫 행의 전 거래일 예측부터 채점 가능해진다. 전체 재적재(0)면 처음부터
+        LocalDate from = e.getFromIndex() > 0 ? s.dateAt(e.getFromIndex() - 1) : null;
+        LocalDate until = s.lastDate();
+        runner.execute(() -> run(from, until));
+    }
+
+    @Scheduled(cron = "${history.grading.cron:0 15 5 * * *}")
+    void gradeAll() {
+        LocalDate until = quoteStore.snapshot().lastDate();
+        if (until != null) runner.execute(() -> run(null, until));
+    }
+
+    /**
+     * HISTORY_DATE 가 [from, until) 인 대기 행을 채점한다 (until 당일은 다음 종가가 아직 없음).
+     * 청크마다 커밋되므로 도중에 실패해도 그때까지 채점한 행은 남는다
+     */
+    GradingReport run(LocalDate from, LocalDate until) {
+        long t0 = System.nanoTime();
+        long graded = 0, scanned = 0, chunks = 0;
+        long afterNo = 0;
+        try {
+            while (true) {
+                List<Long> ids = mapper.selectUngradedIds(afterNo, from, until, chunkSize);
+                if (ids.isEmpty()) break;
+                afterNo = ids.get(ids.size() - 1);
+                scanned += ids.size();
+                chunks++;
+
+                if (mapper.gradeRows(ids, from) > 0) {
+                    graded += publish(mapper.selectGradedRows(ids));
+                }
+                if (ids.size() < chunkSize) break;
+                if (pauseMs > 0) Thread.sleep(pauseMs);   // 다른 쓰기에 잠금 틈을 준다
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("history grading failed after {} rows (from {}, next HISTORY_NO > {})", graded, from, afterNo, e);
+        }
+
+        GradingReport report = new GradingReport(graded, scanned, chunks, System.nanoTime() - t0);
+        if (scanned > 0) {
+            log.info("history grading [{} ~ {}): {} rows graded / {} scanned in {} chunks, {} ms ({} rows/s)",
+                    from == null ? "start" : from, until, graded, scanned, chunks,
+                    report.elapsedNanos() / 1_000_000, String.format("%,.0f", report.rowsPerSecond()));
+        }
+        return report;
+    }
+
+    // 커밋된 채점 결과를 누적 통계 / ETag 버전에 반영
+    private int publish(List<SimulationHistory> rows) {
+        Set<Long> members = new HashSet<>();
+        for (SimulationHistory h : rows) {
+            aggregates.recordGraded(h.getMemberNo(), h.getHistoryResult().equals(h.getHistoryPredict()), h.getPnl());
+            members.add(h.getMemberNo());
+        }
+        members.forEach(versions::bump);
+        return rows.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+}
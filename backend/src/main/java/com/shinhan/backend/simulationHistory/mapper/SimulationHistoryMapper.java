@@ -3,6 +3,7 @@ package com.shinhan.backend.simulationHistory.mapper;
 import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,7 +19,10 @@ public interface SimulationHistoryMapper {
             @Param("type") String type,     // ADD
             @Param("sort") String sort,     // ADD
             @Param("offset") int offset,
-            @Param("size") int size
+            @Param("size") int size,
+            // 키셋 페이징: 이 (날짜, 번호) 다음 행부터. null 이면 offset 사용
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterNo") Long afterNo
     );
 
     long countHistory(
@@ -33,4 +37,31 @@ public interface SimulationHistoryMapper {
 
     Map<String,Object> selectHistorySummary(Long memberNo);
 
+    // 제출된 예측 다건 INSERT (write-behind 배치). 채점 전이므로 HISTORY_RESULT / PNL 은 NULL
+    int insertHistoryBatch(@Param("rows") List<SimulationHistory> rows);
+
+    // 채점 대기 행 번호를 HISTORY_NO 순으로 limit 개 (afterNo 다음부터). HISTORY_DATE 는 [from, until)
+    List<Long> selectUngradedIds(
+            @Param("afterNo") long afterNo,
+            @Param("from") LocalDate from,      // null 이면 처음부터
+            @Param("until") LocalDate until,
+            @Param("limit") int limit
+    );
+
+    // ids 중 아직 채점 안 된 행을 QUOTES_DAILY 의 다음 거래일 종가로 한 번에 채점
+    int gradeRows(@Param("ids") List<Long> ids, @Param("from") LocalDate from);
+
+    // 채점 결과 재조회 (누적 통계 반영용)
+    List<SimulationHistory> selectGradedRows(@Param("ids") List<Long> ids);
+
+    // 회원 이력 전체를 HISTORY_NO 순으로 한 행씩 흘려보낸다 (누적 통계 재계산용, 목록을 메모리에 올리지 않음)
+    void selectPnlRows(@Param("memberNo") Long memberNo, ResultHandler<SimulationHistory> handler);
+
+    // [from, to] 통계를 HISTORY_TYPE 별로 한 번에 (type = null 인 행은 풀지 않은 시세일)
+    List<Map<String,Object>> selectHistoryStatsByType(
+            @Param("memberNo") Long memberNo,
+            @Param("from") String from,
+            @Param("to") String to
+    );
+
 }
@@ -0,0 +1,42 @@
+package com.shinhan.backend.simulationHistory.paging;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서. 마지막으로 내려준 행의 (HISTORY_DATE, HISTORY_NO) 와 정렬 방향을 담는다.
+ * 클라이언트에는 base64url 문자열로만 보이며, 다음 페이지 요청 시 그대로 돌려받는다.
+ */
+@Getter
+public final class HistoryCursor {
+
+    private final LocalDate date;
+    private final long historyNo;
+    private final boolean ascending;
+
+    public HistoryCursor(LocalDate date, long historyNo, boolean ascending) {
+        this.date = date;
+        this.historyNo = historyNo;
+        this.ascending = ascending;
+    }
+
+    public String encode() {
+        String raw = (ascending ? "a" : "d") + "|" + date + "|" + historyNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** 형식이 틀리면 IllegalArgumentException */
+    public static HistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] p = raw.split("\\|");
+            if (p.length != 3 || !(p[0].equals("a") || p[0].equals("d"))) throw new IllegalArgumentException();
+            return new HistoryCursor(LocalDate.parse(p[1]), Long.parseLong(p[2]), p[0].equals("a"));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
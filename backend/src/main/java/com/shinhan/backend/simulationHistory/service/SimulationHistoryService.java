@@ -1,17 +1,30 @@
 package com.shinhan.backend.simulationHistory.service;
 
 import com.shinhan.backend.simulationHistory.dto.HistoryListDto;
+import com.shinhan.backend.simulationHistory.dto.HistoryOverviewDto;
 import com.shinhan.backend.simulationHistory.dto.HistoryStatsDto;
 import com.shinhan.backend.simulationHistory.dto.HistorySummaryDto;
+import com.shinhan.backend.simulationHistory.dto.PredictionSubmitDto;
+import com.shinhan.backend.simulationHistory.paging.HistoryCursor;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 public interface SimulationHistoryService {
+    // cursor 가 있으면 키셋 페이징 (page 는 무시), 없으면 page 기반 offset
     HistoryListDto getHistory(Long memberNo, LocalDate from, LocalDate to,
-                              String type, String sort, int page, int size);
+                              String type, String sort, int page, int size, HistoryCursor cursor);
 
     HistoryStatsDto getHistoryStats(Long memberNo, String from, String to, String type);
 
     HistorySummaryDto getHistorySummary(Long memberNo);
+
+    // 목록 + 통계(전체/매수/매도) + 요약을 한 번에. 서로 독립인 쿼리는 동시에 실행한다
+    HistoryOverviewDto getOverview(Long memberNo, LocalDate from, LocalDate to,
+                                   String type, String sort, int page, int size, HistoryCursor cursor);
+
+    // 예측 제출. 검증 후 write-behind 큐에 넣고 받은 건수를 돌려준다.
+    // 입력이 잘못되면 IllegalArgumentException, 큐가 가득 차면 IllegalStateException (전부 거절)
+    int submitPredictions(Long memberNo, List<PredictionSubmitDto> predictions);
 }
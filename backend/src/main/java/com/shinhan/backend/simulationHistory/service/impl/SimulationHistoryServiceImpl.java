@@ -1,43 +1,94 @@
 package com.shinhan.backend.simulationHistory.service.impl;
 
+import com.shinhan.backend.simulationHistory.aggregate.HistoryAggregates;
+import com.shinhan.backend.simulationHistory.cache.HistoryCountCache;
+import com.shinhan.backend.simulationHistory.cache.HistoryStatsCache;
 import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
 import com.shinhan.backend.simulationHistory.dto.HistoryListDto;
+import com.shinhan.backend.simulationHistory.dto.HistoryOverviewDto;
 import com.shinhan.backend.simulationHistory.dto.HistoryStatsDto;
 import com.shinhan.backend.simulationHistory.dto.HistorySummaryDto;
+import com.shinhan.backend.simulationHistory.dto.PredictionSubmitDto;
 import com.shinhan.backend.simulationHistory.dto.SimulationHistoryDto;
 import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import com.shinhan.backend.simulationHistory.paging.HistoryCursor;
 import com.shinhan.backend.simulationHistory.service.SimulationHistoryService;
-import lombok.RequiredArgsConstructor;
+import com.shinhan.backend.simulationHistory.writebehind.HistoryWriteBehind;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor
 public class SimulationHistoryServiceImpl implements SimulationHistoryService {
+    private static final String BUY = "매수";
+    private static final String SELL = "매도";
+    private static final List<String> DIRECTIONS = List.of("상승", "하락");
+    private static final List<String> OVERVIEW_TYPES = List.of("", BUY, SELL);   // "" = 전체
+    private static final int MAX_NOTE = 1000;
+
     private final SimulationHistoryMapper mapper;
+    private final HistoryCountCache countCache;
+    private final HistoryStatsCache statsCache;
+    private final HistoryAggregates aggregates;
+    private final HistoryWriteBehind writeBehind;
+
+    // overview 전용 풀. 공용 applicationTaskExecutor(무한 큐)를 쓰면 부하 시 응답 시간이 큐 길이로 정해지고
+    // 다른 @Async 작업까지 밀린다. 스레드 수는 DB 커넥션 풀 크기로 묶고, 큐가 차면 요청 스레드가 직접 돌린다.
+    private final ThreadPoolExecutor overviewExecutor;
+
+    public SimulationHistoryServiceImpl(SimulationHistoryMapper mapper,
+                                        HistoryCountCache countCache,
+                                        HistoryStatsCache statsCache,
+                                        HistoryAggregates aggregates,
+                                        HistoryWriteBehind writeBehind,
+                                        @Value("${history.overview.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+                                        @Value("${history.overview.queue:64}") int queue) {
+        this.mapper = mapper;
+        this.countCache = countCache;
+        this.statsCache = statsCache;
+        this.aggregates = aggregates;
+        this.writeBehind = writeBehind;
+        AtomicInteger seq = new AtomicInteger();
+        this.overviewExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queue), r -> {
+                    Thread t = new Thread(r, "history-overview-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
     @Override
     public HistoryListDto getHistory(Long memberNo, LocalDate from, LocalDate to,
-                                     String type, String sort, int page, int size) {
+                                     String type, String sort, int page, int size, HistoryCursor cursor) {
         int p = Math.max(1, page);
         int s = Math.min(Math.max(1, size), 100);
         int offset = (p - 1) * s;
 
-        List<SimulationHistory> rows = mapper.selectHistory(memberNo, from, to, type, sort, offset, s);
-        long total = mapper.countHistory(memberNo, from, to, type);
-
-        List<SimulationHistoryDto> items = rows.stream()
-                .map(SimulationHistoryDto::new)
-                .toList();
-
-        return new HistoryListDto(items, p, s, total);
+        List<SimulationHistory> rows = selectPage(memberNo, from, to, type, sort, offset, s, cursor);
+        long total = count(memberNo, from, to, type);
+        return toList(rows, p, s, total, sort);
     }
 
     @Override
     public HistoryStatsDto getHistoryStats(Long memberNo, String from, String to, String type) {
+        // 회원 이력이나 시세가 바뀌기 전까지는 같은 결과이므로 캐시에서 읽는다
+        return statsCache.get(memberNo, from, to, type, () -> loadHistoryStats(memberNo, from, to, type));
+    }
+
+    private HistoryStatsDto loadHistoryStats(Long memberNo, String from, String to, String type) {
         Map<String,Object> p = new java.util.HashMap<>();
         p.put("memberNo", memberNo);
         p.put("from", from);
@@ -50,28 +101,144 @@ public class SimulationHistoryServiceImpl implements SimulationHistoryService {
         long correct = ((Number)m.getOrDefault("correct",0)).longValue();
         long wrong   = ((Number)m.getOrDefault("wrong",0)).longValue();
         long unsolved= ((Number)m.getOrDefault("unsolved",0)).longValue();
-        double acc   = (correct + wrong) > 0 ? (double)correct / (correct + wrong) : 0.0;
-
-        return new HistoryStatsDto(total, correct, wrong, unsolved, acc);
+        return stats(total, correct, wrong, unsolved);
     }
 
     @Override
     public HistorySummaryDto getHistorySummary(Long memberNo) {
-        Map<String,Object> s = mapper.selectHistorySummary(memberNo);
+        // 전체 행을 다시 집계하지 않고 회원별 누적 통계를 읽는다 (정합성은 HistoryAggregateReconciler 가 확인)
+        return aggregates.summary(memberNo);
+    }
 
-        long total   = ((Number)s.getOrDefault("total",0)).longValue();
-        long correct = ((Number)s.getOrDefault("correct",0)).longValue();
-        long wrong   = ((Number)s.getOrDefault("wrong",0)).longValue();
-        long unsolved= total - correct - wrong;
+    @Override
+    public HistoryOverviewDto getOverview(Long memberNo, LocalDate from, LocalDate to,
+                                          String type, String sort, int page, int size, HistoryCursor cursor) {
+        int p = Math.max(1, page);
+        int s = Math.min(Math.max(1, size), 100);
+        int offset = (p - 1) * s;
 
-        double totalPnl = ((Number)s.getOrDefault("totalPnl",0)).doubleValue();
-        double avgPnl   = ((Number)s.getOrDefault("avgPnl",0)).doubleValue();
-        double maxPnl   = ((Number)s.getOrDefault("maxPnl",0)).doubleValue();
-        double minPnl   = ((Number)s.getOrDefault("minPnl",0)).doubleValue();
+        // 타입별 통계(HistoryStatsCache, 없으면 집계 한 번)만 전용 풀에 넘기고, 목록 쿼리는 요청 스레드에서 동시에 돌린다.
+        // 건수와 요약은 캐시 / 메모리 누적값이라 보통 즉시 끝나므로 스레드를 넘기지 않고 그대로 부른다.
+        String fromStr = from.toString(), toStr = to.toString();
+        CompletableFuture<Map<String, HistoryStatsDto>> byType = CompletableFuture.supplyAsync(
+                () -> statsCache.getAll(memberNo, fromStr, toStr, OVERVIEW_TYPES, () -> loadStatsByType(memberNo, fromStr, toStr)),
+                overviewExecutor);
+
+        try {
+            List<SimulationHistory> rows = selectPage(memberNo, from, to, type, sort, offset, s, cursor);
+            HistoryListDto list = toList(rows, p, s, count(memberNo, from, to, type), sort);
+            HistorySummaryDto summary = getHistorySummary(memberNo);
+
+            Map<String, HistoryStatsDto> groups = byType.join();
+            HistoryStatsDto all = groups.get(""), buy = groups.get(BUY), sell = groups.get(SELL);
+            HistoryStatsDto current = (type == null || type.isEmpty()) ? all
+                    : BUY.equals(type) ? buy
+                    : SELL.equals(type) ? sell
+                    : stats(0, 0, 0, 0);
+
+            return new HistoryOverviewDto(list, current, all, buy, sell, summary);
+        } catch (CompletionException e) {
+            // 매퍼 예외를 그대로 던져 기존 핸들러가 처리하도록
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
 
-        double acc = (correct + wrong) > 0 ? (double)correct / (correct + wrong) : 0.0;
+    // 전체 / 매수 / 매도 통계를 타입별 집계 한 번으로 만든다.
+    // type 이 null 인 그룹(아무도 풀지 않은 시세일)은 전체 통계에만 더해진다
+    private Map<String, HistoryStatsDto> loadStatsByType(Long memberNo, String from, String to) {
+        long allTotal = 0, allCorrect = 0, allWrong = 0;
+        HistoryStatsDto buy = stats(0, 0, 0, 0), sell = stats(0, 0, 0, 0);
+        for (Map<String,Object> g : mapper.selectHistoryStatsByType(memberNo, from, to)) {
+            long t = ((Number)g.getOrDefault("total",0)).longValue();
+            long c = ((Number)g.getOrDefault("correct",0)).longValue();
+            long w = ((Number)g.getOrDefault("wrong",0)).longValue();
+            allTotal += t;
+            allCorrect += c;
+            allWrong += w;
+            Object groupType = g.get("type");
+            if (BUY.equals(groupType)) buy = stats(t, c, w, t - c - w);
+            else if (SELL.equals(groupType)) sell = stats(t, c, w, t - c - w);
+        }
+        return Map.of("", stats(allTotal, allCorrect, allWrong, allTotal - allCorrect - allWrong), BUY, buy, SELL, sell);
+    }
 
-        return new HistorySummaryDto(total, correct, wrong, unsolved,
-                totalPnl, avgPnl, maxPnl, minPnl, acc);
+    @Override
+    public int submitPredictions(Long memberNo, List<PredictionSubmitDto> predictions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SimulationHistory> rows = new ArrayList<>(predictions.size());
+        for (PredictionSubmitDto p : predictions) {
+            if (p == null) throw new IllegalArgumentException("빈 예측이 있습니다.");
+            LocalDate date;
+            try {
+                date = LocalDate.parse(p.getDate());
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalArgumentException("date 는 yyyy-MM-dd 형식이어야 합니다: " + p.getDate());
+            }
+            if (!BUY.equals(p.getType()) && !SELL.equals(p.getType())) {
+                throw new IllegalArgumentException("type 은 매수 또는 매도여야 합니다: " + p.getType());
+            }
+            if (!DIRECTIONS.contains(p.getPredict())) {
+                throw new IllegalArgumentException("predict 는 상승 또는 하락이어야 합니다: " + p.getPredict());
+            }
+            if (p.getNote() != null && p.getNote().length() > MAX_NOTE) {
+                throw new IllegalArgumentException("note 는 " + MAX_NOTE + "자까지 입력할 수 있습니다.");
+            }
+
+            SimulationHistory h = new SimulationHistory();
+            h.setMemberNo(memberNo);
+            h.setHistoryDate(date.toString());
+            h.setHistoryType(p.getType());
+            h.setHistoryPredict(p.getPredict());
+            h.setNote(p.getNote());
+            h.setCreatedAt(now);
+            rows.add(h);
+        }
+        if (!writeBehind.offer(rows)) {
+            throw new IllegalStateException("제출이 밀려 있습니다. 잠시 후 다시 시도하세요.");
+        }
+        return rows.size();
+    }
+
+    // size + 1 개를 읽어 다음 페이지가 있는지 본다
+    private List<SimulationHistory> selectPage(Long memberNo, LocalDate from, LocalDate to, String type,
+                                               String sort, int offset, int size, HistoryCursor cursor) {
+        return mapper.selectHistory(memberNo, from, to, type, sort, offset, size + 1,
+                cursor != null ? cursor.getDate() : null,
+                cursor != null ? cursor.getHistoryNo() : null);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        overviewExecutor.shutdownNow();
+    }
+
+    // 건수는 페이지마다 COUNT(*) 하지 않고 (회원, 기간, type, 이력 버전) 단위로 캐시
+    private long count(Long memberNo, LocalDate from, LocalDate to, String type) {
+        return countCache.get(memberNo, from, to, type, () -> mapper.countHistory(memberNo, from, to, type));
+    }
+
+    private static HistoryListDto toList(List<SimulationHistory> rows, int page, int size, long total, String sort) {
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            SimulationHistory last = rows.get(size - 1);
+            next = new HistoryCursor(LocalDate.parse(last.getHistoryDate()), last.getHistoryNo(),
+                    isAscending(sort)).encode();
+        }
+        List<SimulationHistoryDto> items = rows.stream()
+                .map(SimulationHistoryDto::new)
+                .toList();
+        return new HistoryListDto(items, page, size, total, next);
+    }
+
+    // mapper.xml 의 정렬 분기와 같은 기준
+    private static boolean isAscending(String sort) {
+        return "date,asc".equals(sort);
+    }
+
+    private static HistoryStatsDto stats(long total, long correct, long wrong, long unsolved) {
+        double acc = (correct + wrong) > 0 ? (double)correct / (correct + wrong) : 0.0;
+        return new HistoryStatsDto(total, correct, wrong, unsolved, acc);
     }
 }
@@ -0,0 +1,59 @@
+package com.shinhan.backend.simulationHistory.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미 202 로 받은 제출 중 끝내 DB 에 쓰지 못한 행을 버리지 않고 남기는 파일.
+ * dead-letter-dir/history-yyyyMMdd.jsonl 에 한 줄에 한 행씩 {"reason", "at", "row"} 로 덧붙인다.
+ * 파일에도 못 쓰면 행 내용을 에러 로그로 남긴다 (어느 쪽이든 운영자가 다시 넣을 수 있게).
+ */
+@Slf4j
+@Component
+public class HistoryDeadLetter {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+
+    public HistoryDeadLetter(ObjectMapper objectMapper,
+                             @Value("${history.submit.dead-letter-dir:dead-letter}") String dir) {
+        this.objectMapper = objectMapper;
+        this.dir = Path.of(dir);
+    }
+
+    public synchronized void write(List<SimulationHistory> rows, String reason) {
+        if (rows.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        Path file = dir.resolve("history-" + LocalDate.now().format(DAY) + ".jsonl");
+        try {
+            Files.createDirectories(dir);
+            try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (SimulationHistory h : rows) {
+                    w.write(objectMapper.writeValueAsString(Map.of("reason", reason, "at", now, "row", h)));
+                    w.newLine();
+                }
+            }
+            log.error("history write-behind: {} rows moved to dead letter {} ({})", rows.size(), file, reason);
+        } catch (IOException | RuntimeException e) {
+            log.error("history write-behind: dead letter write failed, rows follow ({}): {}", reason, rows, e);
+        }
+    }
+}
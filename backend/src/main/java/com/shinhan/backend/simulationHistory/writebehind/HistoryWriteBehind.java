@@ -0,0 +1,169 @@
+package com.shinhan.backend.simulationHistory.writebehind;
+
+import com.shinhan.backend.simulationHistory.aggregate.HistoryAggregates;
+import com.shinhan.backend.simulationHistory.cache.HistoryVersions;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예측 제출을 메모리 큐에 받아 두고, batch-size 개가 모이거나 max-delay-ms 가 지나면
+ * 다건 INSERT 한 번으로 SIMULATION_HISTORY 에 쓴다. 요청 스레드는 DB 를 기다리지 않는다.
+ * 큐가 차면 offer 가 false 를 돌려준다 (호출 쪽에서 503). 여러 건 제출은 전부 받거나 전부 거절한다.
+ * 종료 시 남은 행을 모두 쓴 뒤 내려간다. offer 와 종료는 gate 로 서로 배제하므로, 받은 행은 반드시 flusher 가 본다.
+ * 재시도를 다 써도 못 쓴 배치와 종료 시한 안에 못 쓴 행은 HistoryDeadLetter 로 보낸다.
+ */
+@Slf4j
+@Component
+public class HistoryWriteBehind {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SimulationHistoryMapper mapper;
+    private final HistoryVersions versions;
+    private final HistoryAggregates aggregates;
+    private final HistoryDeadLetter deadLetter;
+    private final int batchSize;
+    private final long maxDelayMs;
+
+    private final BlockingQueue<SimulationHistory> queue;
+    private final Semaphore capacity;           // 다건을 원자적으로 예약하기 위한 빈자리 수
+    private final Thread flusher;
+    // offer(읽기) 와 종료 전환(쓰기)을 배제: 종료 뒤 큐에 들어오는 행이 없어야 flusher 의 종료 조건이 맞다
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public HistoryWriteBehind(SimulationHistoryMapper mapper, HistoryVersions versions, HistoryAggregates aggregates,
+                              HistoryDeadLetter deadLetter,
+                              @Value("${history.submit.queue-capacity:50000}") int queueCapacity,
+                              @Value("${history.submit.batch-size:500}") int batchSize,
+                              @Value("${history.submit.max-delay-ms:200}") long maxDelayMs) {
+        this.mapper = mapper;
+        this.versions = versions;
+        this.aggregates = aggregates;
+        this.deadLetter = deadLetter;
+        this.batchSize = batchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.capacity = new Semaphore(queueCapacity);
+        this.flusher = new Thread(this::run, "history-write-behind");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    /** 전부 큐에 넣었으면 true, 자리가 모자라거나 종료 중이면 아무것도 넣지 않고 false */
+    public boolean offer(List<SimulationHistory> rows) {
+        gate.readLock().lock();
+        try {
+            if (!running || !capacity.tryAcquire(rows.size())) return false;
+            for (SimulationHistory h : rows) queue.add(h);   // 자리를 예약했으므로 실패하지 않는다
+            return true;
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    // 진행 중인 offer 가 끝난 뒤에 닫힌다. 이후 queue 는 줄어들기만 한다
+    private void stopAccepting() {
+        gate.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<SimulationHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 첫 행을 기다린 뒤, max-delay 안에서 batch-size 까지 더 모은다
+                SimulationHistory first = queue.poll(maxDelayMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0 || !running) break;
+                    SimulationHistory next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호로 보고 남은 행만 마저 쓴다 (플래그를 다시 세우면 poll 이 계속 던져 진행하지 못한다)
+                stopAccepting();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<SimulationHistory> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mapper.insertHistoryBatch(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("history write-behind: insert of {} rows failed {} times", batch.size(), attempt, e);
+                    deadLetter.write(batch, "insert failed after " + attempt + " attempts: " + e);
+                    return;
+                }
+                log.warn("history write-behind: insert of {} rows failed (attempt {}), retrying", batch.size(), attempt, e);
+                try {
+                    Thread.sleep(100L << attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        // 커밋된 뒤에만 캐시 / 누적 통계에 반영
+        Map<Long, Integer> perMember = new HashMap<>();
+        for (SimulationHistory h : batch) perMember.merge(h.getMemberNo(), 1, Integer::sum);
+        perMember.forEach((memberNo, n) -> {
+            versions.bump(memberNo);
+            aggregates.recordSubmitted(memberNo, n);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 인터럽트하지 않는다 (JDBC 쓰기 도중 끊기지 않도록). poll 이 max-delay 안에 깨어나 남은 행을 쓰고 끝난다
+        stopAccepting();
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            // flusher 가 시한 안에 못 끝냈다 (DB 지연 등). 남은 행은 flusher 와 겹치지 않게 꺼내 dead letter 로
+            List<SimulationHistory> left = new ArrayList<>(queue.size());
+            queue.drainTo(left);
+            deadLetter.write(left, "not written before shutdown");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+-- 기존 운영 스키마 (마이그레이션 도입 이전). 이미 테이블이 있는 DB 는 baseline(V1) 으로 시작하므로 이 파일은 건너뛴다
+CREATE TABLE IF NOT EXISTS MEMBERS (
+    MEMBER_NO            BIGINT        NOT NULL AUTO_INCREMENT,
+    MEMBER_ID            VARCHAR(50)   NOT NULL,
+    MEMBER_PWD           VARCHAR(255)  NOT NULL,   -- BCrypt
+    MEMBER_NAME          VARCHAR(50)   NOT NULL,
+    MEMBER_EMAIL         VARCHAR(100)  NOT NULL,
+    MEMBER_ROLE          VARCHAR(20)   NOT NULL,
+    MEMBER_IS_ACTIVE     TINYINT(1)    NOT NULL DEFAULT 1,
+    MEMBER_CREATED_AT    DATETIME      NOT NULL,
+    MEMBER_UPDATED_AT    DATETIME      NOT NULL,
+    MEMBER_LAST_LOGIN_AT DATETIME      NULL,
+    MEMBER_DELETED_AT    DATETIME      NULL,
+    PRIMARY KEY (MEMBER_NO),
+    UNIQUE KEY UK_MEMBERS_ID (MEMBER_ID)
+);
+
+CREATE TABLE IF NOT EXISTS MEMBER_AUTH (
+    NO         BIGINT       NOT NULL AUTO_INCREMENT,
+    MEMBER_ID  VARCHAR(50)  NOT NULL,
+    AUTH       VARCHAR(50)  NOT NULL,
+    PRIMARY KEY (NO),
+    KEY IX_MEMBER_AUTH_MEMBER (MEMBER_ID)
+);
+
+CREATE TABLE IF NOT EXISTS QUOTES_DAILY (
+    `Date`        DATE    NOT NULL,
+    KRW_G_OPEN    DOUBLE  NULL,
+    KRW_G_CLOSE   DOUBLE  NULL,
+    USD_OZ_OPEN   DOUBLE  NULL,
+    USD_OZ_CLOSE  DOUBLE  NULL,
+    VIX           DOUBLE  NULL,
+    ETF_VOLUME    DOUBLE  NULL,
+    FX_RATE       DOUBLE  NULL,
+    PRIMARY KEY (`Date`)
+);
+
+CREATE TABLE IF NOT EXISTS SIMULATION_HISTORY (
+    HISTORY_NO       BIGINT         NOT NULL AUTO_INCREMENT,
+    MEMBER_NO        BIGINT         NOT NULL,
+    HISTORY_DATE     DATE           NOT NULL,
+    HISTORY_TYPE     VARCHAR(10)    NULL,       -- 매수 / 매도
+    HISTORY_PREDICT  VARCHAR(10)    NULL,       -- 상승 / 하락
+    HISTORY_RESULT   VARCHAR(10)    NULL,       -- 채점 전이면 NULL
+    PNL              DOUBLE         NULL,
+    FAVORITE         TINYINT(1)     NOT NULL DEFAULT 0,
+    TAGS             VARCHAR(255)   NULL,
+    NOTE             VARCHAR(1000)  NULL,
+    CREATED_AT       DATETIME       NOT NULL,
+    PRIMARY KEY (HISTORY_NO)
+);
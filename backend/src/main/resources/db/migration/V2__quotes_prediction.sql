@@ -0,0 +1,8 @@
+-- PredictionJob 이 채우는 다음 날 종가 예측. selectDailyAfter 가 MODEL 기준으로 LEFT JOIN 해 QuoteStore 가 pred_close 로 읽는다
+CREATE TABLE IF NOT EXISTS QUOTES_PREDICTION (
+    PRED_DATE   DATE         NOT NULL,   -- 예측 대상일
+    MODEL       VARCHAR(40)  NOT NULL,
+    PRED_CLOSE  DOUBLE       NOT NULL,
+    CREATED_AT  DATETIME     NOT NULL,
+    PRIMARY KEY (PRED_DATE, MODEL)
+);
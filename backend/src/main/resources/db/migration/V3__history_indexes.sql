@@ -0,0 +1,15 @@
+-- 학습 이력 조회 형태에 맞춘 인덱스. InnoDB 보조 인덱스 끝에는 PK(HISTORY_NO)가 붙으므로
+-- (.., HISTORY_DATE) 로 끝나는 인덱스는 (HISTORY_DATE, HISTORY_NO) 키셋 정렬도 그대로 따라간다.
+
+-- 목록 / 건수 / 통계 (type 없음): 회원 + 기간 범위. 통계에 필요한 컬럼까지 담아 테이블을 읽지 않는다
+CREATE INDEX IX_SH_MEMBER_DATE_COVER
+    ON SIMULATION_HISTORY (MEMBER_NO, HISTORY_DATE, HISTORY_TYPE, HISTORY_PREDICT, HISTORY_RESULT);
+
+-- 목록 / 건수 / 통계 (type = 매수 | 매도): 회원 + 유형 동등 조건 뒤에 기간 범위
+CREATE INDEX IX_SH_MEMBER_TYPE_DATE
+    ON SIMULATION_HISTORY (MEMBER_NO, HISTORY_TYPE, HISTORY_DATE);
+
+-- 채점 대기 행 훑기 (HistoryGradingJob): HISTORY_RESULT IS NULL 이면서 HISTORY_NO 순
+CREATE INDEX IX_SH_RESULT
+    ON SIMULATION_HISTORY (HISTORY_RESULT);
+
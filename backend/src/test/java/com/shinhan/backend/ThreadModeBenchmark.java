@@ -0,0 +1,162 @@
+package com.shinhan.backend;
+
+import com.shinhan.backend.member.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)를 같은 부하로 비교한다.
+ * 요청 스레드 상한(server.tomcat.threads.max)보다 훨씬 많은 동시 요청을 history / auth 엔드포인트에 보낸다.
+ * 실제 DB 가 필요하다. ./gradlew benchmark -Dthreads.bench.concurrency=1000
+ */
+@Tag("benchmark")
+abstract class ThreadModeBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("threads.bench.concurrency", 800);
+    private static final int REQUESTS = Integer.getInteger("threads.bench.requests", 8000);
+    private static final String PASSWORD = "bench-Passw0rd!";
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MemberService memberService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private String memberId;
+    private String cookie;
+
+    abstract String mode();
+
+    @BeforeEach
+    void signUpAndLogin() throws Exception {
+        memberId = "bench" + Long.toString(System.nanoTime(), 36);
+        post("/api/auth/join", "{\"memberId\":\"" + memberId + "\",\"memberPwd\":\"" + PASSWORD
+                + "\",\"memberName\":\"bench\",\"memberEmail\":\"" + memberId + "@bench.local\"}");
+        HttpResponse<String> res = post("/api/auth/login", loginBody());
+        cookie = res.headers().firstValue("Set-Cookie").orElseThrow().split(";", 2)[0];
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberService.deleteAccount(memberId, PASSWORD);
+    }
+
+    @Test
+    void historyAndAuthUnderHighConcurrency() throws Exception {
+        run("GET  /api/history/stats",   () -> get("/api/history/stats?from=2015-01-01&to=2024-12-31"));
+        run("GET  /api/history",         () -> get("/api/history?from=2015-01-01&to=2024-12-31"));
+        run("GET  /api/history/summary", () -> get("/api/history/summary"));
+        run("POST /api/auth/login",      postSupplier("/api/auth/login", loginBody()));
+    }
+
+    private void run(String name, Supplier<HttpRequest> request) throws Exception {
+        // 워밍업
+        fire(request, Math.min(200, REQUESTS), Math.min(50, CONCURRENCY));
+
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger failures = new AtomicInteger();
+        long t0 = System.nanoTime();
+        fire(request, REQUESTS, CONCURRENCY, latencies, failures);
+        long elapsed = System.nanoTime() - t0;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %-24s %6d req, concurrency %4d: %8.0f req/s, p50 %6.1f ms, p99 %7.1f ms, errors %d%n",
+                mode(), name, REQUESTS, CONCURRENCY, REQUESTS / (elapsed / 1e9),
+                latencies[REQUESTS / 2] / 1e6, latencies[(int) (REQUESTS * 0.99)] / 1e6, failures.get());
+        assertThat(failures.get()).isLessThan(REQUESTS / 100 + 1);
+    }
+
+    private void fire(Supplier<HttpRequest> request, int n, int concurrency) throws Exception {
+        fire(request, n, concurrency, new long[n], new AtomicInteger());
+    }
+
+    private void fire(Supplier<HttpRequest> request, int n, int concurrency,
+                      long[] latencies, AtomicInteger failures) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] fs = new Future<?>[concurrency];
+            for (int w = 0; w < concurrency; w++) {
+                fs[w] = workers.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < n) {
+                        long t = System.nanoTime();
+                        try {
+                            int status = client.send(request.get(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status >= 400) failures.incrementAndGet();
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - t;
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> f : fs) f.get();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Cookie", cookie)
+                .GET().build();
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return client.send(postSupplier(path, json).get(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Supplier<HttpRequest> postSupplier(String path, String json) {
+        return () -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private String loginBody() {
+        return "{\"memberId\":\"" + memberId + "\",\"memberPwd\":\"" + PASSWORD + "\"}";
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=200"
+    })
+    static class PlatformThreads extends ThreadModeBenchmark {
+        @Override
+        String mode() {
+            return "platform";
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "server.tomcat.threads.max=200"
+    })
+    static class VirtualThreads extends ThreadModeBenchmark {
+        @Override
+        String mode() {
+            return "virtual";
+        }
+    }
+}
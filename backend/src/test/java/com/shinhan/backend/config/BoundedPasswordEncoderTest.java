@@ -0,0 +1,195 @@
+package com.shinhan.backend.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void delegatesAndReportsCostUpgrade() {
+        BoundedPasswordEncoder enc = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 2, 4, 5_000);
+        String hash = enc.encode("secret");
+
+        assertThat(enc.matches("secret", hash)).isTrue();
+        assertThat(enc.matches("wrong", hash)).isFalse();
+        assertThat(enc.upgradeEncoding(hash)).isFalse();
+        assertThat(new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 1, 5_000).upgradeEncoding(hash)).isTrue();
+        enc.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        BoundedPasswordEncoder enc = new BoundedPasswordEncoder(blocking(started, release), 1, 1, 10_000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> enc.encode("a"));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> queued = callers.submit(() -> enc.encode("b"));
+            while (enc.queued() == 0) Thread.onSpinWait();
+
+            long t0 = System.nanoTime();
+            assertThatThrownBy(() -> enc.encode("c")).isInstanceOf(HashingOverloadedException.class);
+            assertThat(System.nanoTime() - t0).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            enc.shutdown();
+        }
+    }
+
+    @Test
+    void timesOutAsOverload() {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder enc = new BoundedPasswordEncoder(blocking(new CountDownLatch(1), release), 1, 1, 50);
+        try {
+            assertThatThrownBy(() -> enc.matches("a", "x")).isInstanceOf(HashingOverloadedException.class);
+        } finally {
+            release.countDown();
+            enc.shutdown();
+        }
+    }
+
+    // 로그인 폭주 중 다른 API(짧은 CPU 작업)의 지연을 비교한다: 요청 스레드에서 바로 해시 vs 전용 스레드로 제한
+    @Test
+    @Tag("benchmark")
+    void otherEndpointsKeepLatencyDuringLoginStorm() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        String hash = bcrypt.encode("bench-Passw0rd!");
+        int cpus = Runtime.getRuntime().availableProcessors();
+        BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(bcrypt, Math.max(1, cpus - 1), 64, 2_000);
+
+        long[] idle = measure(null, hash);
+        long[] direct = measure(bcrypt, hash);
+        long[] limited = measure(bounded, hash);
+        bounded.shutdown();
+
+        System.out.printf("other endpoints p50/p99 (ms): idle %.2f/%.2f, storm on request threads %.2f/%.2f, storm on %d hash threads %.2f/%.2f%n",
+                pct(idle, 50), pct(idle, 99), pct(direct, 50), pct(direct, 99),
+                Math.max(1, cpus - 1), pct(limited, 50), pct(limited, 99));
+        assertThat(limited).isNotEmpty();
+    }
+
+    private static final int STORM_THREADS = 200, OTHER_THREADS = 16;
+    private static final long RUN_MS = 3_000;
+    private static volatile double sink;
+
+    private static long[] measure(PasswordEncoder storm, String hash) throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger logins = new AtomicInteger(), rejected = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        if (storm != null) {
+            for (int i = 0; i < STORM_THREADS; i++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    while (!stop.get()) {
+                        try {
+                            storm.matches("bench-Passw0rd!", hash);
+                            logins.incrementAndGet();
+                        } catch (HashingOverloadedException e) {
+                            rejected.incrementAndGet();
+                            sleep(5);   // 503 을 받은 클라이언트의 재시도 간격
+                        }
+                    }
+                }));
+            }
+        }
+        List<long[]> perThread = new ArrayList<>();
+        List<Thread> others = new ArrayList<>();
+        for (int i = 0; i < OTHER_THREADS; i++) {
+            long[] lat = new long[200_000];
+            int[] n = new int[1];
+            perThread.add(lat);
+            others.add(Thread.ofPlatform().start(() -> {
+                while (!stop.get() && n[0] < lat.length) {
+                    long t0 = System.nanoTime();
+                    sink += otherEndpoint();
+                    lat[n[0]++] = System.nanoTime() - t0;
+                    sleep(1);
+                }
+                lat[lat.length - 1] = n[0];
+            }));
+        }
+        Thread.sleep(RUN_MS);
+        stop.set(true);
+        for (Thread t : others) t.join();
+        for (Thread t : threads) t.join();
+        if (storm != null) System.out.printf("  storm: %,d logins, %,d rejected%n", logins.get(), rejected.get());
+
+        long[] all = new long[0];
+        for (long[] lat : perThread) {
+            int n = (int) lat[lat.length - 1];
+            int off = all.length;
+            all = Arrays.copyOf(all, off + n);
+            System.arraycopy(lat, 0, all, off, n);
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    // 목록 API 한 번 정도의 CPU 작업 (~0.2ms)
+    private static double otherEndpoint() {
+        double s = 0;
+        for (int i = 1; i < 100_000; i++) s += Math.sqrt(i);
+        return s;
+    }
+
+    private static double pct(long[] sorted, int p) {
+        if (sorted.length == 0) return Double.NaN;
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)] / 1e6;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                started.countDown();
+                await(release);
+                return "hash:" + raw;
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                started.countDown();
+                await(release);
+                return true;
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
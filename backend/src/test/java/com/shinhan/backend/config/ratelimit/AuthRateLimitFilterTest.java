@@ -0,0 +1,106 @@
+package com.shinhan.backend.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthRateLimitFilter filter = new AuthRateLimitFilter(new ObjectMapper(), registry, 10_000);
+
+    @Test
+    void loginIsLimitedPerAccountAcrossIps() throws Exception {
+        // CREDENTIAL 계정 burst 5: IP 를 바꿔도 같은 아이디면 6번째부터 막힌다
+        for (int i = 0; i < 5; i++) {
+            assertThat(login("10.0.0." + i, "Alice").getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse res = login("10.0.0.99", " alice ");
+
+        assertThat(res.getStatus()).isEqualTo(429);
+        assertThat(res.getHeader("Retry-After")).isEqualTo("5");
+        assertThat(registry.counter("auth.ratelimit.rejected", "class", "CREDENTIAL").count()).isEqualTo(1);
+    }
+
+    @Test
+    void bodyIsStillReadableDownstream() throws Exception {
+        MockHttpServletRequest req = post("10.0.0.1", "/api/auth/login", "{\"memberId\":\"bob\",\"memberPwd\":\"x\"}");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(req, new MockHttpServletResponse(), chain);
+
+        byte[] body = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("\"memberPwd\":\"x\"");
+    }
+
+    @Test
+    void lookupIsLimitedPerIpOnly() throws Exception {
+        int ok = 0;
+        for (int i = 0; i < 30; i++) {
+            MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/auth/check-id");
+            req.setRemoteAddr("10.0.0.1");
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            filter.doFilter(req, res, new MockFilterChain());
+            if (res.getStatus() == 200) ok++;
+        }
+        assertThat(ok).isEqualTo(20);
+
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/auth/check-id");
+        other.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(other, res, new MockFilterChain());
+        assertThat(res.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void encodedOrContextPrefixedLoginIsStillCredential() throws Exception {
+        // MVC 는 디코딩된 경로로 매핑하므로 %6Cogin 도 login 이다. 같은 계정 예산(burst 5)을 나눠 써야 한다
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            filter.doFilter(post("10.0.1." + i, "/api/auth/%6Cogin", "{\"memberId\":\"carol\",\"memberPwd\":\"x\"}"),
+                    res, new MockFilterChain());
+            assertThat(res.getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletRequest req = post("10.0.1.99", "/app/api/auth/login", "{\"memberId\":\"carol\",\"memberPwd\":\"x\"}");
+        req.setContextPath("/app");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, new MockFilterChain());
+
+        assertThat(res.getStatus()).isEqualTo(429);
+        assertThat(registry.counter("auth.ratelimit.rejected", "class", "CREDENTIAL").count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherPathsAreNotFiltered() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/history/stats");
+            req.setRemoteAddr("10.0.0.1");
+            MockHttpServletResponse res = new MockHttpServletResponse();
+            filter.doFilter(req, res, new MockFilterChain());
+            assertThat(res.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse login(String ip, String memberId) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(post(ip, "/api/auth/login", "{\"memberId\":\"" + memberId + "\",\"memberPwd\":\"x\"}"),
+                res, new MockFilterChain());
+        return res;
+    }
+
+    private static MockHttpServletRequest post(String ip, String uri, String json) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", uri);
+        req.setRemoteAddr(ip);
+        req.setContentType("application/json");
+        req.setContent(json.getBytes(StandardCharsets.UTF_8));
+        return req;
+    }
+}
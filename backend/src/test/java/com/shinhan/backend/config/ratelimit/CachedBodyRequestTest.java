@@ -0,0 +1,66 @@
+package com.shinhan.backend.config.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestTest {
+
+    @Test
+    void joinsHeadAndRestWhenBodyIsLongerThanLimit() throws Exception {
+        CachedBodyRequest req = CachedBodyRequest.of(request("0123456789"), 4);
+
+        assertThat(req.body()).isEmpty();
+        assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void replaysCachedBodyToReadListener() throws Exception {
+        CachedBodyRequest req = CachedBodyRequest.of(request("{\"memberId\":\"bob\"}"), 1024);
+        ServletInputStream in = req.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] buf = new byte[8];
+                while (in.isReady() && !in.isFinished()) {
+                    int n = in.read(buf);
+                    if (n < 0) break;
+                    read.write(buf, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"memberId\":\"bob\"}");
+        assertThat(in.isFinished()).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/auth/login");
+        req.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return req;
+    }
+}
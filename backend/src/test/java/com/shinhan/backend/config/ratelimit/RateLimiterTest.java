@@ -0,0 +1,119 @@
+package com.shinhan.backend.config.ratelimit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+    private final RateLimiter limiter = new RateLimiter(2, 3, 1_000, Duration.ofMinutes(1), now::get);
+
+    @Test
+    void burstThenRefillAtRate() {
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+
+        // 버킷이 비면 다음 토큰까지 0.5초
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND / 2);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        // 오래 쉬어도 burst 이상은 모이지 않는다
+        now.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("a");
+
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws Exception {
+        RateLimiter frozen = new RateLimiter(1, 50, 1_000, Duration.ofMinutes(1), () -> 0L);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (frozen.tryAcquire("hot") == 0) granted.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(granted.get()).isEqualTo(50);
+    }
+
+    @Test
+    void trackedKeysAreBounded() {
+        RateLimiter small = new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get);
+        for (int i = 0; i < 10_000; i++) small.tryAcquire("ip-" + i);
+
+        assertThat(small.trackedKeys()).isLessThanOrEqualTo(100);
+    }
+
+    // 한 키에 몰릴 때(CAS 경합)와 키가 흩어질 때의 초당 판정 수
+    @Test
+    @Tag("benchmark")
+    void decisionThroughput() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        int perThread = 500_000;
+        RateLimiter real = new RateLimiter(1_000, 1_000, 100_000, Duration.ofMinutes(1));
+
+        for (boolean hot : new boolean[]{true, false}) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            LongAdder allowed = new LongAdder();
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        String key = hot ? "hot" : "ip-" + id + "-" + (i & 1023);
+                        if (real.tryAcquire(key) == 0) allowed.increment();
+                    }
+                    return null;
+                });
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+            long elapsed = System.nanoTime() - t0;
+
+            long ops = (long) threads * perThread;
+            System.out.printf("rate-limit (%s): %,d decisions on %d threads in %d ms -> %,.0f decisions/s, %,d allowed%n",
+                    hot ? "one key" : "spread keys", ops, threads, elapsed / 1_000_000,
+                    ops * 1e9 / elapsed, allowed.sum());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.shinhan.backend.member.cache;
+
+import com.shinhan.backend.member.domain.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberPrincipalCacheTest {
+
+    private final MemberPrincipalCache cache = new MemberPrincipalCache(new SimpleMeterRegistry(), 100, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Member> loader = id -> {
+        loads.incrementAndGet();
+        if (id.equals("ghost")) return null;
+        Member m = new Member();
+        m.setMemberId(id);
+        return m;
+    };
+
+    @Test
+    void loadsOnceUntilInvalidated() {
+        cache.get("kim", loader);
+        cache.get("kim", loader);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate("kim");
+        cache.get("kim", loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void unknownMembersAreNotCached() {
+        assertThat(cache.get("ghost", loader)).isNull();
+        assertThat(cache.get("ghost", loader)).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidatesAgainAfterTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.get("kim", loader);
+            cache.invalidate("kim");
+            cache.get("kim", loader);          // 커밋 전에 다른 요청이 옛 값을 다시 담은 상황
+            assertThat(loads).hasValue(2);
+
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+                s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.get("kim", loader);
+        assertThat(loads).hasValue(3);
+    }
+}
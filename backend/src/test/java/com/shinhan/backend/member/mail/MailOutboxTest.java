@@ -0,0 +1,155 @@
+package com.shinhan.backend.member.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MailOutbox outbox;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (outbox != null) outbox.shutdown();
+    }
+
+    @Test
+    void sendsQueuedMailInBatches() throws Exception {
+        outbox = start(5, 100);
+        for (int i = 0; i < 23; i++) outbox.enqueue(mail("user" + i + "@test.local"));
+
+        assertThat(smtp.waitForIncomingEmail(10_000, 23)).isTrue();
+        assertThat(registry.counter("mail.outbox.sent").count()).isEqualTo(23);
+        assertThat(registry.timer("mail.send").count()).isBetween(5L, 23L);   // 5개씩 묶여 나간다
+        assertThat(registry.get("mail.outbox.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    void waitsForCommitAndSkipsRollback() throws Exception {
+        outbox = start(5, 100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            outbox.enqueue(mail("commit@test.local"));
+            Thread.sleep(300);
+            assertThat(smtp.getReceivedMessages()).isEmpty();   // 커밋 전에는 보내지 않는다
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) s.afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            outbox.enqueue(mail("rollback@test.local"));
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+                s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(smtp.waitForIncomingEmail(5_000, 1)).isTrue();
+        Thread.sleep(300);
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("commit@test.local");
+    }
+
+    @Test
+    void retriesWithBackoffUntilServerIsBack() throws Exception {
+        JavaMailSenderImpl sender = sender();
+        sender.setPort(1);   // 처음에는 SMTP 에 닿지 않는다
+        outbox = new MailOutbox(sender, registry, 1, 1_000, 5, 5, 100);
+        outbox.start();
+        outbox.enqueue(mail("retry@test.local"));
+
+        for (int i = 0; i < 100 && registry.counter("mail.outbox.retried").count() == 0; i++) Thread.sleep(20);
+        assertThat(registry.counter("mail.outbox.retried").count()).isGreaterThanOrEqualTo(1);
+
+        sender.setPort(ServerSetupTest.SMTP.getPort());   // 서버 복구
+        assertThat(smtp.waitForIncomingEmail(10_000, 1)).isTrue();
+        assertThat(registry.counter("mail.outbox.sent").count()).isEqualTo(1);
+        assertThat(registry.counter("mail.outbox.dropped").count()).isZero();
+    }
+
+    @Test
+    void dropsAfterMaxAttempts() throws Exception {
+        JavaMailSenderImpl sender = sender();
+        sender.setPort(1);   // 아무것도 듣지 않는 포트
+        outbox = new MailOutbox(sender, registry, 1, 100, 5, 2, 20);
+        outbox.start();
+
+        outbox.enqueue(mail("nowhere@test.local"));
+        for (int i = 0; i < 100 && registry.counter("mail.outbox.dropped").count() == 0; i++) Thread.sleep(50);
+
+        assertThat(registry.counter("mail.outbox.retried").count()).isEqualTo(1);
+        assertThat(registry.counter("mail.outbox.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void runsOnSentOnlyAfterDelivery() throws Exception {
+        outbox = start(5, 100);
+        CountDownLatch sentLatch = new CountDownLatch(1);
+        outbox.enqueue(mail("reset@test.local"), sentLatch::countDown);
+
+        assertThat(sentLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(smtp.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void skipsOnSentWhenDropped() throws Exception {
+        JavaMailSenderImpl sender = sender();
+        sender.setPort(1);
+        outbox = new MailOutbox(sender, registry, 1, 100, 5, 2, 20);
+        outbox.start();
+
+        AtomicInteger calls = new AtomicInteger();
+        outbox.enqueue(mail("nowhere@test.local"), calls::incrementAndGet);
+        for (int i = 0; i < 100 && registry.counter("mail.outbox.dropped").count() == 0; i++) Thread.sleep(50);
+
+        assertThat(registry.counter("mail.outbox.dropped").count()).isEqualTo(1);
+        assertThat(calls).hasValue(0);   // 버려진 메일은 콜백을 부르지 않는다 (임시 비번이 적용되지 않음)
+    }
+
+    private MailOutbox start(int batchSize, long backoffMs) {
+        MailOutbox o = new MailOutbox(sender(), registry, 1, 1_000, batchSize, 5, backoffMs);
+        o.start();
+        return o;
+    }
+
+    private static JavaMailSenderImpl sender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        sender.getJavaMailProperties().put("mail.smtp.timeout", "1000");
+        return sender;
+    }
+
+    private static SimpleMailMessage mail(String to) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setFrom("noreply@test.local");
+        msg.setTo(to);
+        msg.setSubject("인증코드");
+        msg.setText("123456");
+        return msg;
+    }
+}
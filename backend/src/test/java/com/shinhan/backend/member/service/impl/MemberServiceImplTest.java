@@ -0,0 +1,67 @@
+package com.shinhan.backend.member.service.impl;
+
+import com.shinhan.backend.member.cache.MemberPrincipalCache;
+import com.shinhan.backend.member.domain.Member;
+import com.shinhan.backend.member.dto.LoginRequestDto;
+import com.shinhan.backend.member.mail.MailOutbox;
+import com.shinhan.backend.member.mapper.MemberMapper;
+import com.shinhan.backend.member.writebehind.LastLoginWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class MemberServiceImplTest {
+
+    private final PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+    private final MemberMapper mapper = mock(MemberMapper.class);
+    private final AtomicReference<String> storedHash = new AtomicReference<>(encoder.encode("old-pass"));
+    private final MemberServiceImpl service = new MemberServiceImpl(
+            mapper, encoder, mock(MailOutbox.class), mock(LastLoginWriteBehind.class),
+            new MemberPrincipalCache(new SimpleMeterRegistry(), 100, 300));
+
+    MemberServiceImplTest() {
+        // MEMBER_ID 컬럼처럼 대소문자 / 뒤 공백을 무시하고 같은 행을 돌려준다
+        when(mapper.findById(anyString())).thenAnswer(inv -> isAlice(inv.getArgument(0)) ? member() : null);
+        when(mapper.selectPassword(anyString())).thenAnswer(inv -> isAlice(inv.getArgument(0)) ? storedHash.get() : null);
+        when(mapper.updatePassword(anyString(), anyString(), anyString())).thenAnswer(inv ->
+                isAlice(inv.getArgument(0)) && storedHash.compareAndSet(inv.getArgument(1), inv.getArgument(2)) ? 1 : 0);
+    }
+
+    @Test
+    void oldPasswordIsRejectedForAnyIdSpellingAfterChange() {
+        assertThat(service.login(login("Alice ", "old-pass")).getMemberNo()).isEqualTo(7);   // 다른 표기로 캐시에 담긴다
+
+        service.updatePassword("alice", "old-pass", "new-pass");
+
+        assertThatThrownBy(() -> service.login(login("Alice ", "old-pass"))).hasMessage("비밀번호 불일치");
+        assertThat(service.login(login("ALICE", "new-pass")).getMemberNo()).isEqualTo(7);
+    }
+
+    private Member member() {
+        Member m = new Member();
+        m.setMemberNo(7);
+        m.setMemberId("alice");
+        m.setMemberPwd(storedHash.get());
+        m.setMemberRole("ROLE_USER");
+        return m;
+    }
+
+    private static boolean isAlice(String id) {
+        return id.stripTrailing().equalsIgnoreCase("alice");
+    }
+
+    private static LoginRequestDto login(String id, String pwd) {
+        LoginRequestDto req = new LoginRequestDto();
+        req.setMemberId(id);
+        req.setMemberPwd(pwd);
+        return req;
+    }
+}
@@ -0,0 +1,74 @@
+package com.shinhan.backend.member.verification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.shinhan.backend.member.verification.VerificationStore.IssueResult.*;
+import static com.shinhan.backend.member.verification.VerificationStore.VerifyResult.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVerificationStoreTest {
+
+    private static final long TTL = 180_000, COOLDOWN = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final InMemoryVerificationStore store = new InMemoryVerificationStore(3, now::get);
+    private final VerificationCodeMac mac = new VerificationCodeMac("");
+
+    @Test
+    void codeIsSingleUseAndAttemptsAreCapped() {
+        assertThat(store.issue("a@x", mac.mac("a@x", "123456"), TTL, COOLDOWN)).isEqualTo(ISSUED);
+
+        assertThat(store.verify("a@x", mac.mac("a@x", "000000"), 3)).isEqualTo(WRONG);
+        assertThat(store.verify("a@x", mac.mac("a@x", "123456"), 3)).isEqualTo(OK);
+        assertThat(store.verify("a@x", mac.mac("a@x", "123456"), 3)).isEqualTo(MISSING);
+
+        now.addAndGet(COOLDOWN);
+        store.issue("a@x", mac.mac("a@x", "654321"), TTL, COOLDOWN);
+        assertThat(store.verify("a@x", mac.mac("a@x", "000001"), 3)).isEqualTo(WRONG);
+        assertThat(store.verify("a@x", mac.mac("a@x", "000002"), 3)).isEqualTo(WRONG);
+        assertThat(store.verify("a@x", mac.mac("a@x", "000003"), 3)).isEqualTo(LOCKED);
+        assertThat(store.verify("a@x", mac.mac("a@x", "654321"), 3)).isEqualTo(LOCKED);   // 맞아도 잠김
+    }
+
+    @Test
+    void resendWithinCooldownKeepsPreviousCode() {
+        store.issue("a@x", mac.mac("a@x", "111111"), TTL, COOLDOWN);
+        now.addAndGet(COOLDOWN - 1);
+        assertThat(store.issue("a@x", mac.mac("a@x", "222222"), TTL, COOLDOWN)).isEqualTo(COOLDOWN);
+        assertThat(store.verify("a@x", mac.mac("a@x", "111111"), 5)).isEqualTo(OK);
+    }
+
+    @Test
+    void expiredCodesAreGoneAndFreeCapacity() {
+        store.issue("a@x", mac.mac("a@x", "1"), TTL, COOLDOWN);
+        store.issue("b@x", mac.mac("b@x", "1"), TTL, COOLDOWN);
+        store.issue("c@x", mac.mac("c@x", "1"), TTL, COOLDOWN);
+        assertThat(store.issue("d@x", mac.mac("d@x", "1"), TTL, COOLDOWN)).isEqualTo(FULL);
+
+        now.addAndGet(TTL);
+        assertThat(store.verify("a@x", mac.mac("a@x", "1"), 5)).isEqualTo(MISSING);
+        assertThat(store.issue("d@x", mac.mac("d@x", "1"), TTL, COOLDOWN)).isEqualTo(ISSUED);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reissueDoesNotLetOldEntryExpireNewOne() {
+        store.issue("a@x", mac.mac("a@x", "1"), TTL, COOLDOWN);
+        now.addAndGet(COOLDOWN);
+        store.issue("a@x", mac.mac("a@x", "2"), TTL, COOLDOWN);
+
+        now.addAndGet(TTL - COOLDOWN);     // 첫 항목만 만료
+        store.sweep();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.verify("a@x", mac.mac("a@x", "2"), 5)).isEqualTo(OK);
+    }
+
+    @Test
+    void macDependsOnEmailAndKey() {
+        assertThat(mac.mac("a@x", "123456")).isEqualTo(mac.mac("a@x", "123456"));
+        assertThat(mac.mac("a@x", "123456")).isNotEqualTo(mac.mac("b@x", "123456"));
+        assertThat(new VerificationCodeMac("").mac("a@x", "123456")).isNotEqualTo(mac.mac("a@x", "123456"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.shinhan.backend.member.writebehind;
+
+import com.shinhan.backend.member.mapper.MemberMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class LastLoginWriteBehindTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 5, 9, 0);
+
+    private final MemberMapper mapper = mock(MemberMapper.class);
+    private final List<List<LastLogin>> writes = new ArrayList<>();
+
+    LastLoginWriteBehindTest() {
+        when(mapper.updateLastLoginBatch(anyList())).thenAnswer(inv -> {
+            List<LastLogin> rows = new ArrayList<>(inv.getArgument(0));
+            writes.add(rows);
+            return rows.size();
+        });
+    }
+
+    @Test
+    void repeatedLoginsCollapseToLatest() {
+        LastLoginWriteBehind wb = new LastLoginWriteBehind(mapper, 500);
+        wb.record(1, T0.plusMinutes(2));
+        wb.record(1, T0);                  // 늦게 도착한 이른 시각은 무시
+        wb.record(1, T0.plusMinutes(5));
+        wb.record(2, T0);
+
+        wb.flush();
+
+        assertThat(writes).hasSize(1);
+        assertThat(writes.get(0)).hasSize(2)
+                .anySatisfy(l -> {
+                    assertThat(l.getMemberNo()).isEqualTo(1);
+                    assertThat(l.getAt()).isEqualTo(T0.plusMinutes(5));
+                });
+        assertThat(wb.pending()).isZero();
+
+        wb.flush();                        // 쓸 것이 없으면 DB 에 가지 않는다
+        assertThat(writes).hasSize(1);
+    }
+
+    @Test
+    void splitsIntoBatches() {
+        LastLoginWriteBehind wb = new LastLoginWriteBehind(mapper, 2);
+        for (int m = 1; m <= 5; m++) wb.record(m, T0);
+
+        wb.flush();
+
+        assertThat(writes).extracting(List::size).containsExactlyInAnyOrder(2, 2, 1);
+    }
+
+    @Test
+    void failedBatchIsRetriedNextFlushAndOnShutdown() {
+        LastLoginWriteBehind wb = new LastLoginWriteBehind(mapper, 500);
+        reset(mapper);
+        when(mapper.updateLastLoginBatch(anyList()))
+                .thenThrow(new RuntimeException("lock wait timeout"))
+                .thenReturn(1);
+        wb.record(7, T0);
+
+        wb.flush();
+        assertThat(wb.pending()).isEqualTo(1);
+        wb.record(7, T0.minusDays(1));     // 되돌려 놓은 시각보다 이르면 그대로 유지
+
+        wb.shutdown();
+        assertThat(wb.pending()).isZero();
+        verify(mapper, times(2)).updateLastLoginBatch(anyList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.shinhan.backend.simulation.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class IndicatorStateTest {
+
+    @Test
+    void slidingSmaAndBollingerMatchNaiveWindow() {
+        int n = 3000, w = 20;
+        double[] close = randomWalk(n, 3);
+        double[][] sma = run("sma:20", close);
+        double[][] bb = run("bb:20:2", close);
+
+        for (int i = 0; i < n; i++) {
+            if (i < w - 1) {
+                assertThat(sma[0][i]).isNaN();
+                continue;
+            }
+            double mean = 0;
+            for (int j = i - w + 1; j <= i; j++) mean += close[j];
+            mean /= w;
+            double var = 0;
+            for (int j = i - w + 1; j <= i; j++) var += (close[j] - mean) * (close[j] - mean);
+            double sd = Math.sqrt(var / w);
+
+            assertThat(sma[0][i]).isCloseTo(mean, within(1e-6));
+            assertThat(bb[0][i]).isCloseTo(mean, within(1e-6));
+            assertThat(bb[1][i]).isCloseTo(mean + 2 * sd, within(1e-6));
+            assertThat(bb[2][i]).isCloseTo(mean - 2 * sd, within(1e-6));
+        }
+    }
+
+    @Test
+    void incrementalPushEqualsFullPass() {
+        double[] close = randomWalk(2000, 11);
+        for (String code : new String[]{"sma:20", "ema:50", "rsi:14", "bb:20:2", "vol:20"}) {
+            IndicatorSpec spec = IndicatorSpec.parse(code);
+            double[][] full = run(code, close);
+
+            IndicatorState state = spec.newState();
+            double[][] out = new double[spec.columnNames().length][close.length];
+            state.pushAll(close, 0, 1500, out);
+            state.pushAll(close, 1500, close.length, out);
+
+            assertThat(state.count()).isEqualTo(close.length);
+            for (int c = 0; c < out.length; c++) assertThat(out[c]).containsExactly(full[c]);
+        }
+    }
+
+    @Test
+    void rsiStaysInRangeAndSkipsMissingDays() {
+        double[] close = randomWalk(500, 5);
+        close[100] = Double.NaN;
+        double[][] rsi = run("rsi:14", close);
+
+        assertThat(rsi[0][13]).isNaN();
+        assertThat(rsi[0][14]).isBetween(0.0, 100.0);
+        assertThat(rsi[0][100]).isNaN();
+        for (int i = 14; i < close.length; i++) {
+            if (i != 100) assertThat(rsi[0][i]).isBetween(0.0, 100.0);
+        }
+    }
+
+    @Test
+    void rejectsInvalidSpecs() {
+        assertThatThrownBy(() -> IndicatorSpec.parse("macd:12")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IndicatorSpec.parse("sma:1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IndicatorSpec.parse("sma:x")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(IndicatorSpec.parse("BB:20:2.5").columnNames())
+                .containsExactly("bb_20_2p5_mid", "bb_20_2p5_upper", "bb_20_2p5_lower");
+    }
+
+    private static double[][] run(String code, double[] close) {
+        IndicatorSpec spec = IndicatorSpec.parse(code);
+        double[][] out = new double[spec.columnNames().length][close.length];
+        spec.newState().pushAll(close, 0, close.length, out);
+        return out;
+    }
+
+    private static double[] randomWalk(int n, long seed) {
+        Random r = new Random(seed);
+        double[] y = new double[n];
+        double v = 80_000;
+        for (int i = 0; i < n; i++) {
+            v *= 1 + r.nextGaussian() * 0.01;
+            y[i] = v;
+        }
+        return y;
+    }
+}
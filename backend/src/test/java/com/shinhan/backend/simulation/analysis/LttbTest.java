@@ -0,0 +1,129 @@
+package com.shinhan.backend.simulation.analysis;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbTest {
+
+    @Test
+    void keepsEndpointsAndReturnsRequestedCount() {
+        int n = 3650;
+        int[] x = days(n);
+        double[] y = randomWalk(n, 42);
+
+        int[] idx = Lttb.downsample(x, y, 0, n, 500);
+
+        assertThat(idx).hasSize(500);
+        assertThat(idx[0]).isEqualTo(0);
+        assertThat(idx[idx.length - 1]).isEqualTo(n - 1);
+        for (int i = 1; i < idx.length; i++) assertThat(idx[i]).isGreaterThan(idx[i - 1]);
+    }
+
+    @Test
+    void returnsWholeRangeWhenAlreadySmallEnough() {
+        int[] x = days(10);
+        double[] y = randomWalk(10, 1);
+
+        assertThat(Lttb.downsample(x, y, 2, 8, 500)).containsExactly(2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void skipsMissingValues() {
+        int n = 100;
+        int[] x = days(n);
+        double[] y = randomWalk(n, 7);
+        for (int i = 1; i < n - 1; i += 2) y[i] = Double.NaN;
+
+        int[] idx = Lttb.downsample(x, y, 0, n, 20);
+
+        for (int i : idx) assertThat(Double.isNaN(y[i])).isFalse();
+    }
+
+    @Test
+    void skipsMissingEndpoints() {
+        int n = 100;
+        int[] x = days(n);
+        double[] y = randomWalk(n, 3);
+        y[0] = y[1] = Double.NaN;
+        y[n - 1] = Double.NaN;
+
+        int[] idx = Lttb.downsample(x, y, 0, n, 20);
+
+        assertThat(idx[0]).isEqualTo(2);                    // NaN 이 아닌 첫 점
+        assertThat(idx[idx.length - 1]).isEqualTo(n - 2);   // NaN 이 아닌 마지막 점
+        for (int i : idx) assertThat(Double.isNaN(y[i])).isFalse();
+        for (int i = 1; i < idx.length; i++) assertThat(idx[i]).isGreaterThan(idx[i - 1]);
+    }
+
+    @Test
+    void skipsAllMissingBucket() {
+        int n = 100;
+        int[] x = days(n);
+        double[] y = randomWalk(n, 5);
+        for (int i = 30; i < 60; i++) y[i] = Double.NaN;   // 버킷 몇 개가 통째로 빈다
+
+        int[] idx = Lttb.downsample(x, y, 0, n, 20);
+
+        assertThat(idx.length).isBetween(Lttb.MIN_POINTS, 20);
+        assertThat(idx[0]).isZero();
+        assertThat(idx[idx.length - 1]).isEqualTo(n - 1);
+        for (int i : idx) assertThat(Double.isNaN(y[i])).isFalse();
+        for (int i = 1; i < idx.length; i++) assertThat(idx[i]).isGreaterThan(idx[i - 1]);
+    }
+
+    @Test
+    void returnsNothingWhenAllMissing() {
+        int n = 50;
+        double[] y = new double[n];
+        java.util.Arrays.fill(y, Double.NaN);
+
+        assertThat(Lttb.downsample(days(n), y, 0, n, 10)).isEmpty();
+    }
+
+    // 10년(3,650일) 부터 1,000년 분량까지 늘려가며 점당 처리 시간이 일정한지(선형인지) 확인
+    @Test
+    @Tag("benchmark")
+    void runsInLinearTime() {
+        int[] sizes = {3_650, 36_500, 365_000};
+        double[] nsPerPoint = new double[sizes.length];
+
+        for (int s = 0; s < sizes.length; s++) {
+            int n = sizes[s];
+            int[] x = days(n);
+            double[] y = randomWalk(n, s);
+            for (int w = 0; w < 20; w++) Lttb.downsample(x, y, 0, n, 500);   // warm-up
+
+            int reps = Math.max(5, 2_000_000 / n);
+            long t0 = System.nanoTime();
+            long sink = 0;
+            for (int r = 0; r < reps; r++) sink += Lttb.downsample(x, y, 0, n, 500)[250];
+            long elapsed = System.nanoTime() - t0;
+
+            nsPerPoint[s] = (double) elapsed / reps / n;
+            System.out.printf("LTTB n=%,d -> 500 pts: %.1f us/op, %.2f ns/point (sink %d)%n",
+                    n, elapsed / 1_000.0 / reps, nsPerPoint[s], sink);
+        }
+
+        // 입력이 100배 커져도 점당 비용은 같은 자릿수여야 한다
+        assertThat(nsPerPoint[2]).isLessThan(nsPerPoint[0] * 4);
+    }
+
+    private static int[] days(int n) {
+        int[] x = new int[n];
+        for (int i = 0; i < n; i++) x[i] = 16_436 + i;   // 2015-01-01 부터
+        return x;
+    }
+
+    private static double[] randomWalk(int n, long seed) {
+        java.util.Random rnd = new java.util.Random(seed);
+        double[] y = new double[n];
+        double v = 50_000;
+        for (int i = 0; i < n; i++) {
+            v += rnd.nextGaussian() * 300;
+            y[i] = v;
+        }
+        return y;
+    }
+}
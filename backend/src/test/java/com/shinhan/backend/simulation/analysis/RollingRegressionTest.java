@@ -0,0 +1,56 @@
+package com.shinhan.backend.simulation.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RollingRegressionTest {
+
+    @Test
+    void matchesNaiveWindowRegression() {
+        int n = 2000, w = 60, lo = 300;
+        Random r = new Random(1);
+        double[] gold = new double[n], fx = new double[n];
+        double g = 80_000, f = 1_200;
+        for (int i = 0; i < n; i++) {
+            double e = r.nextGaussian() * 0.01;
+            f *= 1 + e;
+            g *= 1 + 0.5 * e + r.nextGaussian() * 0.005;
+            gold[i] = g;
+            fx[i] = f;
+        }
+        fx[700] = Double.NaN;   // 700, 701 번째 수익률이 빠진다
+
+        double[] corr = new double[n], beta = new double[n];
+        RollingRegression.compute(gold, fx, lo, n, w, corr, beta);
+
+        assertThat(corr[lo - 1]).isNaN();
+        for (int i = lo; i < n; i++) {
+            double[] xs = new double[w], ys = new double[w];
+            int cnt = 0;
+            for (int j = i - w + 1; j <= i; j++) {
+                double x = Math.log(fx[j] / fx[j - 1]), y = Math.log(gold[j] / gold[j - 1]);
+                if (Double.isNaN(x)) continue;
+                xs[cnt] = x;
+                ys[cnt++] = y;
+            }
+            double mx = 0, my = 0;
+            for (int k = 0; k < cnt; k++) {
+                mx += xs[k] / cnt;
+                my += ys[k] / cnt;
+            }
+            double cxy = 0, vx = 0, vy = 0;
+            for (int k = 0; k < cnt; k++) {
+                cxy += (xs[k] - mx) * (ys[k] - my);
+                vx += (xs[k] - mx) * (xs[k] - mx);
+                vy += (ys[k] - my) * (ys[k] - my);
+            }
+            assertThat(corr[i]).isCloseTo(cxy / Math.sqrt(vx * vy), within(1e-9));
+            assertThat(beta[i]).isCloseTo(cxy / vx, within(1e-9));
+        }
+        assertThat(beta[n - 1]).isCloseTo(0.5, within(0.2));
+    }
+}
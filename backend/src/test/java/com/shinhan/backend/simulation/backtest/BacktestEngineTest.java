@@ -0,0 +1,74 @@
+package com.shinhan.backend.simulation.backtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class BacktestEngineTest {
+
+    private final BacktestEngine engine = new BacktestEngine(ForkJoinPool.commonPool());
+
+    @Test
+    void alwaysLongMatchesBuyAndHold() {
+        double[] close = {100, 110, 99, 120};
+        BacktestMarket m = BacktestMarket.of(close, new double[4], new double[4]);
+
+        // threshold -1 이면 항상 보유
+        BacktestResult res = engine.run(m, StrategyType.MOMENTUM,
+                new ParamGrid(new double[]{1, -1}, new double[]{1, -1}, new double[]{1, 1}), 0);
+
+        // t=1 부터 보유: 110 → 120
+        assertThat(res.totalReturn[0]).isCloseTo(120.0 / 110 - 1, offset(1e-12));
+        assertThat(res.trades[0]).isEqualTo(1);
+    }
+
+    @Test
+    void invalidCombinationsAreSkipped() {
+        BacktestMarket m = market(500, 1);
+        ParamGrid grid = new ParamGrid(new double[]{10, 5}, new double[]{20, 30}, new double[]{10, 5});
+
+        BacktestResult res = engine.run(m, StrategyType.SMA_CROSS, grid, 5);
+
+        double[] p = new double[2];
+        for (int i = 0; i < res.size(); i++) {
+            grid.decode(i, p);
+            assertThat(Double.isNaN(res.sharpe[i])).isEqualTo(p[0] >= p[1]);
+        }
+        assertThat(res.top(3)).allSatisfy(i -> assertThat(res.sharpe[i]).isNotNaN());
+    }
+
+    // 10년치(약 2,600 거래일) 위에서 수만 개 조합을 돌려 초당 평가 수를 찍는다
+    @Test
+    @Tag("benchmark")
+    void sweepThroughput() {
+        BacktestMarket m = market(2_600, 7);
+        ParamGrid grid = new ParamGrid(new double[]{2, 10, 12}, new double[]{60, 250, 40}, new double[]{1, 2, 1});
+
+        engine.run(m, StrategyType.VIX_FILTERED_SMA, grid, 5);   // warm-up
+        BacktestResult res = engine.run(m, StrategyType.VIX_FILTERED_SMA, grid, 5);
+
+        System.out.printf("backtest: %,d combinations x %,d days in %d ms -> %,.0f evaluations/s (%,.0f day-steps/s, %d cores)%n",
+                res.size(), m.size(), res.elapsedNanos() / 1_000_000, res.evaluationsPerSecond(),
+                res.evaluationsPerSecond() * m.size(), ForkJoinPool.commonPool().getParallelism());
+        assertThat(res.top(1)).hasSize(1);
+    }
+
+    private static BacktestMarket market(int n, long seed) {
+        Random rnd = new Random(seed);
+        double[] close = new double[n], fx = new double[n], vix = new double[n];
+        double c = 50_000, f = 1_100;
+        for (int i = 0; i < n; i++) {
+            c *= 1 + rnd.nextGaussian() * 0.01;
+            f *= 1 + rnd.nextGaussian() * 0.003;
+            close[i] = c;
+            fx[i] = f;
+            vix[i] = 12 + rnd.nextDouble() * 25;
+        }
+        return BacktestMarket.of(close, fx, vix);
+    }
+}
@@ -0,0 +1,57 @@
+package com.shinhan.backend.simulation.backtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParamGridTest {
+
+    @Test
+    void decodesMixedRadix() {
+        ParamGrid grid = new ParamGrid(new double[]{5, 20}, new double[]{7, 30}, new double[]{1, 5});
+        double[] p = new double[2];
+
+        assertThat(grid.combinations()).isEqualTo(9);
+        grid.decode(0, p);
+        assertThat(p).containsExactly(5, 20);
+        grid.decode(8, p);
+        assertThat(p).containsExactly(7, 30);
+    }
+
+    // 한 축이 int 범위를 넘는 경우: 예전에는 (int) 포화 + 1 로 음수가 되어 상한 검사를 통과했다
+    @Test
+    void rejectsDimensionBeyondIntRange() {
+        assertThatThrownBy(() -> new ParamGrid(new double[]{0}, new double[]{1e12}, new double[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParamGrid(new double[]{0}, new double[]{1}, new double[]{1e-300}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 각 축은 작아도 곱이 long 을 넘거나 상한을 넘는 경우
+    @Test
+    void rejectsProductBeyondLimit() {
+        double[] from = new double[7];
+        double[] to = new double[7];
+        double[] step = new double[7];
+        Arrays.fill(to, 999_999);
+        Arrays.fill(step, 1);
+        assertThatThrownBy(() -> new ParamGrid(from, to, step))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> new ParamGrid(new double[]{1, 1}, new double[]{1_000, 1_001}, new double[]{1, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new ParamGrid(new double[]{1, 1}, new double[]{1_000, 1_000}, new double[]{1, 1}).combinations())
+                .isEqualTo(BacktestEngine.MAX_COMBINATIONS);
+    }
+
+    @Test
+    void rejectsNonFiniteBounds() {
+        assertThatThrownBy(() -> new ParamGrid(new double[]{0}, new double[]{Double.POSITIVE_INFINITY}, new double[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParamGrid(new double[]{Double.NaN}, new double[]{1}, new double[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.shinhan.backend.simulation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteSlice;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarJsonWriterTest {
+
+    private static final String[] COLUMNS = {"dates", "fx_rate", "vix", "etf_volume", "gold_close", "pred_close"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesEqualLengthColumnsForRange() throws Exception {
+        QuoteSeries s = series(10);
+
+        JsonNode json = write(new QuoteSlice(s, 2, 7, null), ColumnarJsonWriter.MEDIA_TYPE);
+
+        for (String c : COLUMNS) assertThat(json.get(c).size()).as(c).isEqualTo(5);
+        assertThat(json.get("dates").get(0).asText()).isEqualTo("2024-01-03");
+        assertThat(json.get("dates").get(4).asText()).isEqualTo("2024-01-07");
+        assertThat(json.get("gold_close").get(0).asDouble()).isEqualTo(s.getGoldClose()[2]);
+    }
+
+    @Test
+    void writesNaNAndMissingValuesAsNull() throws Exception {
+        QuoteSeries s = series(10);   // vix 는 짝수 행이 비어 있고, pred_close 는 전부 비어 있다
+
+        JsonNode json = write(new QuoteSlice(s, 0, 4, null), "application/json");
+
+        assertThat(json.get("vix").get(0).isNull()).isTrue();
+        assertThat(json.get("vix").get(1).isNumber()).isTrue();
+        assertThat(json.get("pred_close")).allSatisfy(v -> assertThat(v.isNull()).isTrue());
+    }
+
+    @Test
+    void followsPickedIndices() throws Exception {
+        QuoteSeries s = series(10);
+
+        JsonNode json = write(new QuoteSlice(s, 0, 10, new int[]{0, 5, 9}), "application/json");
+
+        assertThat(json.get("dates")).extracting(JsonNode::asText)
+                .containsExactly("2024-01-01", "2024-01-06", "2024-01-10");
+        assertThat(json.get("fx_rate").size()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyRangeWritesEmptyArrays() throws Exception {
+        JsonNode json = write(new QuoteSlice(series(10), 4, 4, null), "application/json");
+
+        for (String c : COLUMNS) {
+            assertThat(json.get(c).isArray()).as(c).isTrue();
+            assertThat(json.get(c).size()).as(c).isZero();
+        }
+
+        JsonNode none = write(new QuoteSlice(QuoteSeries.EMPTY, 0, 0, null), "application/json");
+        assertThat(none.get("dates").size()).isZero();
+    }
+
+    @Test
+    void setsContentType() throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        try (ColumnarJsonWriter w = new ColumnarJsonWriter(objectMapper, res, ColumnarJsonWriter.MEDIA_TYPE)) {
+            w.writeQuotes(new QuoteSlice(series(1), 0, 1, null));
+        }
+
+        assertThat(res.getContentType()).startsWith(ColumnarJsonWriter.MEDIA_TYPE);
+        assertThat(res.getCharacterEncoding()).isEqualTo("UTF-8");
+    }
+
+    private JsonNode write(QuoteSlice slice, String contentType) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        try (ColumnarJsonWriter w = new ColumnarJsonWriter(objectMapper, res, contentType)) {
+            w.writeQuotes(slice);
+        }
+        return objectMapper.readTree(res.getContentAsByteArray());
+    }
+
+    private static QuoteSeries series(int days) {
+        List<QuotesDaily> rows = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            QuotesDaily q = new QuotesDaily();
+            q.setDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            q.setKrwGClose(90_000.0 + i);
+            q.setFxRate(1_300.0 + i);
+            q.setVix(i % 2 == 0 ? null : 15.0 + i);
+            q.setEtfVolume(1e6);
+            rows.add(q);
+        }
+        return QuoteSeries.of(rows);
+    }
+}
@@ -0,0 +1,161 @@
+package com.shinhan.backend.simulation.ingest;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import com.shinhan.backend.simulation.mapper.QuotesMapper;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class QuoteCsvLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final SqlSessionFactory factory = mock(SqlSessionFactory.class);
+    private final SqlSession session = mock(SqlSession.class);
+    private final QuotesMapper mapper = mock(QuotesMapper.class);
+    private final QuoteStore store = mock(QuoteStore.class);
+    private final QuoteCsvLoader loader = new QuoteCsvLoader(factory, store);
+
+    @BeforeEach
+    void setUp() {
+        given(factory.openSession(ExecutorType.BATCH, false)).willReturn(session);
+        given(session.getMapper(QuotesMapper.class)).willReturn(mapper);
+        given(store.snapshot()).willReturn(QuoteSeries.EMPTY);
+        configure(2, 3);
+    }
+
+    @Test
+    void parsesColumnsInAnyOrderAndSkipsBadLines() throws Exception {
+        Path csv = write("\uFEFFfx_rate,Date,KRW_G_CLOSE,VIX,etf_volume",
+                "1300.5,2024-01-02,90000,15.2,1000",
+                "",
+                "1301,2024-01-03,,null,",
+                "oops,not-a-date,1,2,3",
+                "1302,2024-01-04,90500,16");
+
+        QuoteCsvLoader.Result res = loader.load(csv);
+
+        assertThat(res.getRows()).isEqualTo(3);
+        assertThat(res.getSkipped()).isEqualTo(1);
+        List<QuotesDaily> rows = upserted(3);
+        assertThat(rows.get(0).getDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(rows.get(0).getFxRate()).isEqualTo(1300.5);
+        assertThat(rows.get(0).getKrwGClose()).isEqualTo(90000.0);
+        assertThat(rows.get(0).getKrwGOpen()).isNull();        // 헤더에 없는 컬럼
+        assertThat(rows.get(1).getKrwGClose()).isNull();       // 빈 칸
+        assertThat(rows.get(1).getVix()).isNull();             // "null"
+        assertThat(rows.get(2).getEtfVolume()).isNull();       // 모자란 필드
+        verify(store).refresh();
+    }
+
+    // batch-size 2, commit-every 3: 7행이면 배치 3번 + 마지막 1번, 커밋 2번 + 마지막 1번
+    @Test
+    void flushesAndCommitsInChunks() throws Exception {
+        Path csv = write("Date,KRW_G_CLOSE",
+                "2024-01-01,1", "2024-01-02,2", "2024-01-03,3", "2024-01-04,4",
+                "2024-01-05,5", "2024-01-06,6", "2024-01-07,7");
+
+        assertThat(loader.load(csv).getRows()).isEqualTo(7);
+
+        verify(mapper, times(7)).upsertDaily(any());
+        verify(session, times(4)).flushStatements();
+        verify(session, times(3)).commit();
+    }
+
+    // commit-every 3: 3행이 커밋된 뒤 5번째 행에서 실패하면 커밋된 과거 날짜를 위해 전체 재적재
+    @Test
+    void syncsStoreWithCommittedRowsWhenLoadFails() throws Exception {
+        QuotesDaily loaded = new QuotesDaily();
+        loaded.setDate(LocalDate.of(2024, 12, 31));
+        given(store.snapshot()).willReturn(QuoteSeries.of(List.of(loaded)));
+        given(mapper.upsertDaily(any())).willReturn(1).willReturn(1).willReturn(1).willReturn(1)
+                .willThrow(new IllegalStateException("db down"));
+        Path csv = write("Date,KRW_G_CLOSE",
+                "2024-01-01,1", "2024-01-02,2", "2024-01-03,3", "2024-01-04,4", "2024-01-05,5");
+
+        assertThatThrownBy(() -> loader.load(csv)).hasMessage("db down");
+
+        verify(session, times(1)).commit();
+        verify(store).reload();
+    }
+
+    @Test
+    void leavesStoreAloneWhenNothingWasCommitted() throws Exception {
+        given(mapper.upsertDaily(any())).willThrow(new IllegalStateException("db down"));
+        Path csv = write("Date,KRW_G_CLOSE", "2024-01-01,1");
+
+        assertThatThrownBy(() -> loader.load(csv)).hasMessage("db down");
+
+        verify(store, never()).reload();
+        verify(store, never()).refresh();
+    }
+
+    @Test
+    void foldsIntradayRowsIntoOneDay() throws Exception {
+        Path csv = write("Date,KRW_G_OPEN,KRW_G_CLOSE,ETF_VOLUME,VIX",
+                "2024-01-02 09:00,100,101,10,15",
+                "2024-01-02 09:01,101,99,5,",
+                "2024-01-02 15:30,,103,1,16",
+                "2024-01-03T09:00,104,105,7,17");
+
+        assertThat(loader.load(csv).getRows()).isEqualTo(2);
+
+        List<QuotesDaily> rows = upserted(2);
+        QuotesDaily day = rows.get(0);
+        assertThat(day.getDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(day.getKrwGOpen()).isEqualTo(100.0);
+        assertThat(day.getKrwGClose()).isEqualTo(103.0);
+        assertThat(day.getEtfVolume()).isEqualTo(16.0);
+        assertThat(day.getVix()).isEqualTo(16.0);
+        assertThat(rows.get(1).getDate()).isEqualTo(LocalDate.of(2024, 1, 3));
+    }
+
+    @Test
+    void rejectsZeroBatchSettings() {
+        configure(0, 10);
+        assertThatThrownBy(loader::validate).isInstanceOf(IllegalStateException.class);
+
+        configure(10, 0);
+        assertThatThrownBy(loader::validate).isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<QuotesDaily> upserted(int n) {
+        ArgumentCaptor<QuotesDaily> captor = ArgumentCaptor.forClass(QuotesDaily.class);
+        verify(mapper, times(n)).upsertDaily(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private void configure(int batchSize, int commitEvery) {
+        ReflectionTestUtils.setField(loader, "batchSize", batchSize);
+        ReflectionTestUtils.setField(loader, "commitEvery", commitEvery);
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path p = dir.resolve("quotes.csv");
+        Files.writeString(p, String.join("\n", lines), StandardCharsets.UTF_8);
+        return p;
+    }
+}
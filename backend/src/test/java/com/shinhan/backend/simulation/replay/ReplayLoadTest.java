@@ -0,0 +1,197 @@
+package com.shinhan.backend.simulation.replay;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import com.shinhan.backend.simulation.dto.ReplaySessionDto;
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * SSE 연결 수천 개를 한 세션에 붙여 두고 연결당 힙 사용량을 잰다.
+ * 붙여 둔 소켓은 응답을 전혀 읽지 않는 "느린 소비자" 역할도 겸하며, 그 와중에 정상 구독자가 틱을 계속 받는지 확인한다.
+ * 수신 버퍼를 아주 작게 잡은 연결로 소켓 버퍼를 실제로 채워 send 가 막히는 경우도 따로 본다.
+ * ./gradlew loadTest -Dreplay.load.connections=5000
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.max-connections=30000",
+        "simulation.replay.min-interval-ms=10",
+        "simulation.replay.max-subscribers=30000",
+        "simulation.replay.send-timeout-ms=1000",
+        "server.tomcat.connection-timeout=5s"   // 막힌 send 가 이 시간 뒤 실패해 슬롯이 풀린다
+})
+class ReplayLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("replay.load.connections", 2000);
+    private static final int STALLED = Integer.getInteger("replay.load.stalled", 32);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ReplayHub hub;
+
+    @MockitoBean
+    QuoteStore quoteStore;
+
+    @Test
+    void holdsManyConnectionsAndReportsMemoryPerConnection() throws Exception {
+        given(quoteStore.snapshot()).willReturn(series(3650));
+        ReplaySessionDto session = hub.create(LocalDate.of(2015, 1, 1), LocalDate.of(2024, 12, 31), 20);
+
+        long before = usedHeap();
+        List<SocketChannel> idle = new ArrayList<>(CONNECTIONS);
+        byte[] req = ("GET /api/simulation/replay/" + session.getId() + "/stream HTTP/1.1\r\n"
+                + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            SocketChannel ch = SocketChannel.open(new InetSocketAddress("localhost", port));
+            ch.write(ByteBuffer.wrap(req));
+            idle.add(ch);
+        }
+        while (hub.subscriberCount() < CONNECTIONS && System.nanoTime() - t0 < 60_000_000_000L) Thread.sleep(50);
+        long connectMs = (System.nanoTime() - t0) / 1_000_000;
+
+        // 정상 구독자 하나가 읽지 않는 연결들과 상관없이 틱을 받는지
+        AtomicInteger ticks = new AtomicInteger();
+        Thread reader = new Thread(() -> readTicks(session.getId(), ticks));
+        reader.setDaemon(true);
+        reader.start();
+        Thread.sleep(3000);
+
+        long after = usedHeap();
+        int held = hub.subscriberCount() - 1;
+        System.out.printf("replay load: %d/%d connections in %d ms, heap +%.1f MiB, %.1f KiB/connection, fast reader got %d ticks%n",
+                held, CONNECTIONS, connectMs, (after - before) / 1048576.0,
+                (after - before) / 1024.0 / Math.max(1, held), ticks.get());
+
+        assertThat(held).isEqualTo(CONNECTIONS);
+        assertThat(ticks.get()).isGreaterThan(10);
+
+        for (SocketChannel ch : idle) ch.close();
+        hub.stop(session.getId());
+    }
+
+    // 읽지 않는 연결이 전송 스레드 수보다 많아도 (소켓 버퍼가 다 차서 send 가 막혀도) 정상 구독자는 계속 받는다
+    @Test
+    void blockedSendsAreDroppedWithoutStallingOthers() throws Exception {
+        given(quoteStore.snapshot()).willReturn(series(3650));
+        ReplaySessionDto session = hub.create(LocalDate.of(2015, 1, 1), LocalDate.of(2024, 12, 31), 10);
+
+        List<SocketChannel> stalled = new ArrayList<>(STALLED);
+        byte[] req = ("GET /api/simulation/replay/" + session.getId() + "/stream HTTP/1.1\r\n"
+                + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < STALLED; i++) {
+            SocketChannel ch = SocketChannel.open();
+            ch.setOption(StandardSocketOptions.SO_RCVBUF, 1024);   // 연결 전에 줄여야 윈도우가 작게 잡힌다
+            ch.connect(new InetSocketAddress("localhost", port));
+            ch.write(ByteBuffer.wrap(req));
+            stalled.add(ch);
+        }
+        long t0 = System.nanoTime();
+        while (hub.subscriberCount() < STALLED && System.nanoTime() - t0 < 10_000_000_000L) Thread.sleep(20);
+        assertThat(hub.subscriberCount()).isEqualTo(STALLED);
+
+        AtomicInteger ticks = new AtomicInteger();
+        Thread reader = new Thread(() -> readTicks(session.getId(), ticks));
+        reader.setDaemon(true);
+        reader.start();
+
+        // 버퍼가 차서 막힌 구독자는 send-timeout 뒤 세션에서 떨어져 나가 정상 구독자 하나만 프레임을 받는다
+        t0 = System.nanoTime();
+        while (hub.get(session.getId()).getSubscribers() > 1 && System.nanoTime() - t0 < 30_000_000_000L) Thread.sleep(100);
+        long detachMs = (System.nanoTime() - t0) / 1_000_000;
+        assertThat(hub.get(session.getId()).getSubscribers()).isEqualTo(1);
+
+        // 막힌 send 는 아직 스레드와 연결을 잡고 있으므로 슬롯도 그대로다 (max-subscribers 가 자원을 묶는다)
+        int held = hub.subscriberCount();
+        int before = ticks.get();
+        Thread.sleep(2000);
+        int during = ticks.get() - before;
+        assertThat(held).isGreaterThan(1);
+        assertThat(during).isGreaterThan(50);
+
+        // 쓰기 타임아웃으로 send 가 실패해 전송 스레드가 빠지면 슬롯이 돌아온다
+        t0 = System.nanoTime();
+        while (hub.subscriberCount() > 1 && System.nanoTime() - t0 < 30_000_000_000L) Thread.sleep(100);
+        long releaseMs = (System.nanoTime() - t0) / 1_000_000;
+        System.out.printf("replay stalled: %d non-reading connections detached in %d ms (%d slots held), "
+                        + "released %d ms later, fast reader got %d ticks in 2 s%n",
+                STALLED, detachMs, held - 1, releaseMs, during);
+
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+
+        for (SocketChannel ch : stalled) ch.close();
+        hub.stop(session.getId());
+    }
+
+    private void readTicks(String id, AtomicInteger ticks) {
+        try {
+            HttpResponse<InputStream> res = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/simulation/replay/" + id + "/stream"))
+                            .header("Accept", "text/event-stream").build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(res.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = r.readLine()) != null) {
+                    if (line.equals("event:tick")) ticks.incrementAndGet();
+                }
+            }
+        } catch (Exception ignored) {
+            // 테스트 종료 시 끊김
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static QuoteSeries series(int days) {
+        Random r = new Random(1);
+        List<QuotesDaily> rows = new ArrayList<>(days);
+        LocalDate d = LocalDate.of(2015, 1, 1);
+        double g = 50_000;
+        for (int i = 0; i < days; i++) {
+            g *= 1 + r.nextGaussian() * 0.01;
+            QuotesDaily q = new QuotesDaily();
+            q.setDate(d.plusDays(i));
+            q.setKrwGClose(g);
+            q.setFxRate(1_200 + r.nextGaussian());
+            q.setVix(15 + r.nextGaussian());
+            q.setEtfVolume(1e6);
+            rows.add(q);
+        }
+        return QuoteSeries.of(rows);
+    }
+}
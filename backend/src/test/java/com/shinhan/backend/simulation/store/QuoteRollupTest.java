@@ -0,0 +1,103 @@
+package com.shinhan.backend.simulation.store;
+
+import com.shinhan.backend.simulation.domain.QuotesDaily;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuoteRollupTest {
+
+    // 2019-12-20(금) 부터 평일만: 주 / 월 / 연 경계를 모두 여러 번 지난다
+    private static final List<QuotesDaily> ROWS = weekdays(LocalDate.of(2019, 12, 20), 600);
+
+    @Test
+    void extendingOneDayAtATimeMatchesFullBuild() {
+        for (QuoteResolution r : QuoteResolution.values()) {
+            QuoteSeries s = QuoteSeries.of(ROWS.subList(0, 1));
+            QuoteRollup rollup = QuoteRollup.build(s, r);
+            for (int i = 1; i < ROWS.size(); i++) {
+                s = s.append(ROWS.subList(i, i + 1));
+                rollup = rollup.extend(s);
+                assertSameRollup(rollup, QuoteRollup.build(s, r));
+            }
+        }
+    }
+
+    // 마지막 구간이 미완성인 상태에서 여러 구간을 한 번에 넘는 덧붙이기
+    @Test
+    void extendingAcrossSeveralBucketsMatchesFullBuild() {
+        int[] cuts = {1, 3, 7, 8, 30, 250, 261, 262, 599};   // 2019-12-31 / 2020-01-01 전후 포함
+        for (QuoteResolution r : QuoteResolution.values()) {
+            for (int cut : cuts) {
+                QuoteSeries head = QuoteSeries.of(ROWS.subList(0, cut));
+                QuoteRollup partial = QuoteRollup.build(head, r);
+                QuoteSeries full = head.append(ROWS.subList(cut, ROWS.size()));
+
+                assertSameRollup(partial.extend(full), QuoteRollup.build(full, r));
+            }
+        }
+    }
+
+    @Test
+    void bucketsStartOnCalendarBoundaries() {
+        QuoteSeries s = QuoteSeries.of(ROWS);
+
+        QuoteRollup week = QuoteRollup.build(s, QuoteResolution.WEEK);
+        QuoteRollup month = QuoteRollup.build(s, QuoteResolution.MONTH);
+        QuoteRollup year = QuoteRollup.build(s, QuoteResolution.YEAR);
+
+        assertThat(LocalDate.ofEpochDay(week.getStartDays()[1]).getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(LocalDate.ofEpochDay(month.getStartDays()[1])).isEqualTo(LocalDate.of(2020, 1, 1));
+        assertThat(LocalDate.ofEpochDay(year.getStartDays()[1])).isEqualTo(LocalDate.of(2020, 1, 1));
+        assertThat(year.getSize()).isEqualTo(4);   // 2019 ~ 2022
+    }
+
+    @Test
+    void unchangedSeriesReturnsSameRollup() {
+        QuoteSeries s = QuoteSeries.of(ROWS);
+        QuoteRollup r = QuoteRollup.build(s, QuoteResolution.MONTH);
+
+        assertThat(r.extend(s)).isSameAs(r);
+    }
+
+    private static void assertSameRollup(QuoteRollup actual, QuoteRollup expected) {
+        assertThat(actual.getSize()).isEqualTo(expected.getSize());
+        assertThat(actual.getDailySize()).isEqualTo(expected.getDailySize());
+        assertThat(actual.getStartDays()).containsExactly(expected.getStartDays());
+        assertThat(actual.getFirstIndex()).containsExactly(expected.getFirstIndex());
+        assertThat(actual.getOpen()).containsExactly(expected.getOpen());
+        assertThat(actual.getHigh()).containsExactly(expected.getHigh());
+        assertThat(actual.getLow()).containsExactly(expected.getLow());
+        assertThat(actual.getClose()).containsExactly(expected.getClose());
+        assertThat(actual.getVolume()).containsExactly(expected.getVolume());
+        assertThat(actual.getFxRate()).containsExactly(expected.getFxRate());
+        assertThat(actual.getVix()).containsExactly(expected.getVix());
+    }
+
+    // 가끔 값이 빠진 날(null → NaN)도 섞는다
+    private static List<QuotesDaily> weekdays(LocalDate start, int n) {
+        Random rnd = new Random(3);
+        List<QuotesDaily> rows = new ArrayList<>(n);
+        double g = 70_000;
+        for (LocalDate d = start; rows.size() < n; d = d.plusDays(1)) {
+            if (d.getDayOfWeek() == DayOfWeek.SATURDAY || d.getDayOfWeek() == DayOfWeek.SUNDAY) continue;
+            double open = g;
+            g *= 1 + rnd.nextGaussian() * 0.01;
+            QuotesDaily q = new QuotesDaily();
+            q.setDate(d);
+            q.setKrwGOpen(rnd.nextInt(20) == 0 ? null : open);
+            q.setKrwGClose(g);
+            q.setEtfVolume(rnd.nextInt(15) == 0 ? null : 1e6 + rnd.nextInt(100_000));
+            q.setFxRate(1_200 + rnd.nextGaussian());
+            q.setVix(rnd.nextInt(25) == 0 ? null : 15 + rnd.nextGaussian());
+            rows.add(q);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,65 @@
+package com.shinhan.backend.simulationHistory.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PnlAggregateTest {
+
+    @Test
+    void incrementalUpdatesMatchFullRebuild() {
+        int n = 1000;
+        Random r = new Random(9);
+        boolean[] correct = new boolean[n];
+        Double[] pnl = new Double[n];
+        for (int i = 0; i < n; i++) {
+            correct[i] = r.nextBoolean();
+            pnl[i] = i < 900 ? r.nextGaussian() * 10 : null;   // 마지막 100건은 아직 채점 전
+        }
+
+        PnlAggregate live = new PnlAggregate();
+        live.submitted(n);
+        for (int i = 0; i < 900; i++) live.graded(correct[i], pnl[i]);
+
+        PnlAggregate rebuilt = new PnlAggregate();
+        for (int i = 0; i < n; i++) {
+            rebuilt.loadRow("매수", pnl[i] == null ? null : (correct[i] ? "매수" : "매도"), pnl[i]);
+        }
+
+        for (PnlAggregate a : new PnlAggregate[]{live, rebuilt}) {
+            assertThat(a.total()).isEqualTo(n);
+            assertThat(a.correct() + a.wrong()).isEqualTo(900);
+            assertThat(a.maxPnl()).isEqualTo(rebuilt.maxPnl());
+            assertThat(a.minPnl()).isEqualTo(rebuilt.minPnl());
+            assertThat(a.totalPnl()).isCloseTo(rebuilt.totalPnl(), within(1e-9));
+            assertThat(a.pnlVariance()).isCloseTo(rebuilt.pnlVariance(), within(1e-9));
+            assertThat(a.maxDrawdown()).isCloseTo(rebuilt.maxDrawdown(), within(1e-9));
+            assertThat(a.streak()).isEqualTo(rebuilt.streak());
+        }
+    }
+
+    @Test
+    void matchesSqlSummaryDefinitions() {
+        PnlAggregate a = new PnlAggregate();
+        a.submitted(4);
+        a.graded(true, 5.0);
+        a.graded(false, -3.0);
+        a.graded(false, -4.0);
+        // 한 건은 채점 전: COALESCE(PNL, 0) = 0 으로 평균 / 최대 / 최소에 들어간다
+
+        assertThat(a.totalPnl()).isEqualTo(-2.0);
+        assertThat(a.avgPnl()).isEqualTo(-0.5);
+        assertThat(a.maxPnl()).isEqualTo(5.0);
+        assertThat(a.minPnl()).isEqualTo(-4.0);
+        assertThat(a.maxDrawdown()).isEqualTo(7.0);
+        assertThat(a.streak()).isEqualTo(-2);
+
+        PnlAggregate allLosses = new PnlAggregate();
+        allLosses.submitted(2);
+        allLosses.graded(false, -1.0);
+        assertThat(allLosses.maxPnl()).isEqualTo(0.0);   // 채점 전 행의 0
+    }
+}
@@ -0,0 +1,91 @@
+package com.shinhan.backend.simulationHistory.cache;
+
+import com.shinhan.backend.simulation.store.QuoteSeries;
+import com.shinhan.backend.simulation.store.QuoteStore;
+import com.shinhan.backend.simulationHistory.dto.HistoryStatsDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HistoryStatsCacheTest {
+
+    private final HistoryVersions versions = new HistoryVersions();
+    private final QuoteStore quoteStore = mock(QuoteStore.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HistoryStatsCache cache = new HistoryStatsCache(versions, quoteStore, registry);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<HistoryStatsDto> loader = () -> {
+        loads.incrementAndGet();
+        return new HistoryStatsDto(1, 1, 0, 0, 1.0);
+    };
+
+    @BeforeEach
+    void setUp() {
+        when(quoteStore.snapshot()).thenReturn(QuoteSeries.EMPTY);
+        cache.bindMetrics();
+    }
+
+    @Test
+    void repeatedReadsHitUntilMemberHistoryChanges() {
+        cache.get(1L, "2024-01-01", "2024-03-31", "매수", loader);
+        cache.get(1L, "2024-01-01", "2024-03-31", "매수", loader);
+        assertThat(loads).hasValue(1);
+
+        cache.get(1L, "2024-01-01", "2024-03-31", null, loader);   // 다른 파라미터는 다른 항목
+        assertThat(loads).hasValue(2);
+
+        versions.bump(2L);                                          // 다른 회원의 변경은 영향 없음
+        cache.get(1L, "2024-01-01", "2024-03-31", "매수", loader);
+        assertThat(loads).hasValue(2);
+
+        versions.bump(1L);
+        cache.get(1L, "2024-01-01", "2024-03-31", "매수", loader);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void overviewTypesLoadOnceAndShareEntriesWithGet() {
+        AtomicInteger groupLoads = new AtomicInteger();
+        Supplier<Map<String, HistoryStatsDto>> byType = () -> {
+            groupLoads.incrementAndGet();
+            return Map.of("", new HistoryStatsDto(3, 2, 1, 0, 2.0 / 3),
+                    "매수", new HistoryStatsDto(2, 2, 0, 0, 1.0),
+                    "매도", new HistoryStatsDto(1, 0, 1, 0, 0.0));
+        };
+        List<String> types = List.of("", "매수", "매도");
+
+        cache.getAll(1L, "a", "b", types, byType);
+        Map<String, HistoryStatsDto> again = cache.getAll(1L, "a", "b", types, byType);
+        assertThat(groupLoads).hasValue(1);
+        assertThat(again.get("매수").getTotal()).isEqualTo(2);
+
+        assertThat(cache.get(1L, "a", "b", "매도", loader).getTotal()).isEqualTo(1);   // 같은 항목
+        assertThat(loads).hasValue(0);
+
+        versions.bump(1L);
+        cache.getAll(1L, "a", "b", types, byType);
+        assertThat(groupLoads).hasValue(2);
+    }
+
+    @Test
+    void exposesHitAndMissCounts() {
+        cache.get(1L, "a", "b", null, loader);
+        cache.get(1L, "a", "b", null, loader);
+        cache.get(1L, "a", "b", null, loader);
+
+        assertThat(registry.get("cache.gets").tag("cache", "history.stats").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "history.stats").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.find("cache.evictions").tag("cache", "history.stats").functionCounter()).isNotNull();
+    }
+}
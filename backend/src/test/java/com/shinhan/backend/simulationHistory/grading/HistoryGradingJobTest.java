@@ -0,0 +1,83 @@
+package com.shinhan.backend.simulationHistory.grading;
+
+import com.shinhan.backend.simulation.store.QuoteStore;
+import com.shinhan.backend.simulationHistory.aggregate.HistoryAggregates;
+import com.shinhan.backend.simulationHistory.cache.HistoryVersions;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HistoryGradingJobTest {
+
+    private static final LocalDate UNTIL = LocalDate.of(2024, 3, 8);
+
+    private final SimulationHistoryMapper mapper = mock(SimulationHistoryMapper.class);
+    private final HistoryAggregates aggregates = mock(HistoryAggregates.class);
+    private final HistoryVersions versions = new HistoryVersions();
+    private final HistoryGradingJob job =
+            new HistoryGradingJob(mapper, mock(QuoteStore.class), versions, aggregates, 2, 0);
+
+    @Test
+    void walksChunksByKeysetAndPublishesGradedRows() {
+        when(mapper.selectUngradedIds(eq(0L), isNull(), eq(UNTIL), eq(2))).thenReturn(List.of(3L, 7L));
+        when(mapper.selectUngradedIds(eq(7L), isNull(), eq(UNTIL), eq(2))).thenReturn(List.of(9L));
+        when(mapper.gradeRows(anyList(), isNull())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        when(mapper.selectGradedRows(List.of(3L, 7L))).thenReturn(List.of(row(1L, "상승", "상승", 10.0), row(2L, "상승", "하락", -5.0)));
+        when(mapper.selectGradedRows(List.of(9L))).thenReturn(List.of(row(1L, "하락", "하락", 3.0)));
+
+        GradingReport r = job.run(null, UNTIL);
+
+        assertThat(r.graded()).isEqualTo(3);
+        assertThat(r.scanned()).isEqualTo(3);
+        assertThat(r.chunks()).isEqualTo(2);
+        // 마지막 청크가 chunk-size 보다 작으면 더 조회하지 않는다
+        verify(mapper, never()).selectUngradedIds(eq(9L), any(), any(), anyInt());
+        verify(aggregates).recordGraded(1L, true, 10.0);
+        verify(aggregates).recordGraded(2L, false, -5.0);
+        verify(aggregates).recordGraded(1L, true, 3.0);
+        assertThat(versions.current(1L)).isEqualTo(2);
+        assertThat(versions.current(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void rowsWithoutNextCloseStayPendingAndAreNotPublished() {
+        when(mapper.selectUngradedIds(eq(0L), any(), eq(UNTIL), eq(2))).thenReturn(List.of(4L));
+        when(mapper.gradeRows(anyList(), any())).thenReturn(0);
+
+        GradingReport r = job.run(LocalDate.of(2024, 3, 7), UNTIL);
+
+        assertThat(r.graded()).isZero();
+        assertThat(r.scanned()).isEqualTo(1);
+        verify(mapper, never()).selectGradedRows(anyList());
+        verifyNoInteractions(aggregates);
+    }
+
+    @Test
+    void failureKeepsEarlierChunks() {
+        when(mapper.selectUngradedIds(eq(0L), any(), any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(mapper.selectUngradedIds(eq(2L), any(), any(), anyInt())).thenThrow(new RuntimeException("lock wait timeout"));
+        when(mapper.gradeRows(anyList(), any())).thenReturn(2);
+        when(mapper.selectGradedRows(anyList())).thenReturn(List.of(row(5L, "상승", "상승", 1.0), row(5L, "하락", "상승", -1.0)));
+
+        GradingReport r = job.run(null, UNTIL);
+
+        assertThat(r.graded()).isEqualTo(2);
+        verify(aggregates, times(2)).recordGraded(eq(5L), anyBoolean(), anyDouble());
+    }
+
+    private static SimulationHistory row(Long memberNo, String predict, String result, Double pnl) {
+        SimulationHistory h = new SimulationHistory();
+        h.setMemberNo(memberNo);
+        h.setHistoryPredict(predict);
+        h.setHistoryResult(result);
+        h.setPnl(pnl);
+        return h;
+    }
+}
@@ -0,0 +1,215 @@
+package com.shinhan.backend.simulationHistory.mapper;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학습 이력 핫 쿼리의 실행 계획 회귀 테스트. 매퍼 XML 이 실제로 만드는 SQL 에 EXPLAIN 을 걸어
+ * 어느 테이블이든 전체 스캔(type ALL / index)으로 떨어지거나 이력 테이블의 1/4 이상을 읽을 것으로 보이면 실패한다.
+ * 로컬 MySQL 8 이 필요하다: ./gradlew dbTest -Ddb.url=... -Ddb.user=... -Ddb.password=...
+ * 비어 있는 DB 면 마이그레이션 후 회원 50명 x 400건을 채운다.
+ */
+@Tag("db")
+class HistoryQueryPlanTest {
+
+    private static final String NS = "com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper.";
+    private static final int MEMBERS = 50, ROWS_PER_MEMBER = 400, DAYS = 500;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 2);
+
+    private static DataSource ds;
+    private static Configuration mybatis;
+    private static List<LocalDate> days;
+    private static long historyRows;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        ds = new DriverManagerDataSource(
+                System.getProperty("db.url", "jdbc:mysql://localhost:3306/plan_test?createDatabaseIfNotExist=true"),
+                System.getProperty("db.user", "root"),
+                System.getProperty("db.password", ""));
+        Flyway.configure().dataSource(ds).load().migrate();
+
+        mybatis = new Configuration();
+        try (InputStream in = new ClassPathResource("mappers/SimulationHistoryMapper.xml").getInputStream()) {
+            new XMLMapperBuilder(in, mybatis, "mappers/SimulationHistoryMapper.xml", mybatis.getSqlFragments()).parse();
+        }
+
+        days = new ArrayList<>(DAYS);
+        for (LocalDate d = FIRST_DAY; days.size() < DAYS; d = d.plusDays(1)) {
+            if (d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY) days.add(d);
+        }
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM SIMULATION_HISTORY");
+            rs.next();
+            if (rs.getLong(1) == 0) seed(c);
+            st.execute("ANALYZE TABLE SIMULATION_HISTORY, QUOTES_DAILY");
+            rs = st.executeQuery("SELECT COUNT(*) FROM SIMULATION_HISTORY");
+            rs.next();
+            historyRows = rs.getLong(1);
+        }
+    }
+
+    @Test
+    void listWithoutType() {
+        assertIndexed("selectHistory", listParams(null, "date,desc", null, null));
+    }
+
+    @Test
+    void listWithTypeAscending() {
+        assertIndexed("selectHistory", listParams("매수", "date,asc", null, null));
+    }
+
+    @Test
+    void listFromKeysetCursor() {
+        assertIndexed("selectHistory", listParams(null, "date,desc", days.get(300), 5_000L));
+        assertIndexed("selectHistory", listParams("매도", "date,asc", days.get(100), 5_000L));
+    }
+
+    @Test
+    void countWithAndWithoutType() {
+        assertIndexed("countHistory", listParams(null, null, null, null));
+        assertIndexed("countHistory", listParams("매수", null, null, null));
+    }
+
+    @Test
+    void statsWithAndWithoutType() {
+        assertIndexed("selectHistoryStats", listParams(null, null, null, null));
+        assertIndexed("selectHistoryStats", listParams("매도", null, null, null));
+        assertIndexed("selectHistoryStatsByType", listParams(null, null, null, null));
+    }
+
+    @Test
+    void summaryAndAggregateLoad() {
+        assertIndexed("selectHistorySummary", 7L);
+        assertIndexed("selectPnlRows", 7L);
+    }
+
+    @Test
+    void gradingQueries() {
+        Map<String, Object> p = new HashMap<>();
+        p.put("afterNo", 0L);
+        p.put("from", null);
+        p.put("until", days.get(DAYS - 1));
+        p.put("limit", 1000);
+        assertIndexed("selectUngradedIds", p);
+
+        Map<String, Object> g = new HashMap<>();
+        g.put("ids", List.of(11L, 12L, 13L));
+        g.put("from", days.get(DAYS - 20));
+        assertIndexed("gradeRows", g);
+        assertIndexed("selectGradedRows", g);
+    }
+
+    private static Map<String, Object> listParams(String type, String sort, LocalDate afterDate, Long afterNo) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("memberNo", 7L);
+        p.put("from", days.get(200));
+        p.put("to", days.get(260));
+        p.put("type", type);
+        p.put("sort", sort);
+        p.put("offset", 0);
+        p.put("size", 20);
+        p.put("afterDate", afterDate);
+        p.put("afterNo", afterNo);
+        return p;
+    }
+
+    private static void assertIndexed(String id, Object param) {
+        MappedStatement ms = mybatis.getMappedStatement(NS + id);
+        BoundSql sql = ms.getBoundSql(param);
+        List<Map<String, Object>> plan = new ArrayList<>();
+        try (Connection c = ds.getConnection();
+             PreparedStatement ps = c.prepareStatement("EXPLAIN " + sql.getSql())) {
+            new DefaultParameterHandler(ms, param, sql).setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Object> row = new HashMap<>();
+                    for (String col : List.of("table", "type", "key", "rows", "Extra")) row.put(col, rs.getObject(col));
+                    plan.add(row);
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("EXPLAIN failed for " + id, e);
+        }
+        System.out.println("plan " + id + ": " + plan);
+
+        assertThat(plan).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            String table = String.valueOf(row.get("table"));
+            if (table.startsWith("<")) continue;   // 파생 테이블 자체는 위에서 만든 결과를 읽는 것
+            assertThat(String.valueOf(row.get("type")))
+                    .as("%s: access type on %s", id, table)
+                    .isNotIn("ALL", "index");
+            assertThat(row.get("key")).as("%s: index on %s", id, table).isNotNull();
+            Object rows = row.get("rows");
+            if (rows != null) {
+                assertThat(((Number) rows).longValue())
+                        .as("%s: estimated rows on %s", id, table)
+                        .isLessThan(historyRows / 4);
+            }
+        }
+    }
+
+    private static void seed(Connection c) throws Exception {
+        c.setAutoCommit(false);
+        try (PreparedStatement ps = c.prepareStatement(
+                "INSERT INTO QUOTES_DAILY (`Date`, KRW_G_OPEN, KRW_G_CLOSE, FX_RATE, VIX) VALUES (?, ?, ?, ?, ?)")) {
+            double close = 80_000;
+            for (LocalDate d : days) {
+                close *= 1 + Math.sin(d.toEpochDay()) * 0.01;
+                ps.setObject(1, d);
+                ps.setDouble(2, close);
+                ps.setDouble(3, close);
+                ps.setDouble(4, 1_300);
+                ps.setDouble(5, 15);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = c.prepareStatement(
+                "INSERT INTO SIMULATION_HISTORY (MEMBER_NO, HISTORY_DATE, HISTORY_TYPE, HISTORY_PREDICT, HISTORY_RESULT, PNL, CREATED_AT)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, NOW())")) {
+            int n = 0;
+            for (int i = 0; i < ROWS_PER_MEMBER; i++) {
+                for (long m = 1; m <= MEMBERS; m++) {
+                    boolean graded = (i + m) % 10 != 0;   // 10% 는 채점 대기
+                    ps.setLong(1, m);
+                    ps.setObject(2, days.get((int) ((i + m) % DAYS)));
+                    ps.setString(3, (i % 2 == 0) ? "매수" : "매도");
+                    ps.setString(4, (i % 3 == 0) ? "하락" : "상승");
+                    ps.setString(5, graded ? ((i % 5 == 0) ? "하락" : "상승") : null);
+                    if (graded) ps.setDouble(6, (i % 7) - 3); else ps.setNull(6, java.sql.Types.DOUBLE);
+                    ps.addBatch();
+                    if (++n % 1_000 == 0) ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        c.commit();
+        c.setAutoCommit(true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.shinhan.backend.simulationHistory.paging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryCursorTest {
+
+    @Test
+    void roundTrips() {
+        HistoryCursor c = new HistoryCursor(LocalDate.of(2024, 3, 5), 123456789L, false);
+
+        HistoryCursor back = HistoryCursor.decode(c.encode());
+
+        assertThat(back.getDate()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(back.getHistoryNo()).isEqualTo(123456789L);
+        assertThat(back.isAscending()).isFalse();
+        assertThat(c.encode()).doesNotContain("|", "=", "+", "/");
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        assertThatThrownBy(() -> HistoryCursor.decode("not-a-cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode("")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.shinhan.backend.simulationHistory.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shinhan.backend.simulationHistory.aggregate.HistoryAggregates;
+import com.shinhan.backend.simulationHistory.cache.HistoryVersions;
+import com.shinhan.backend.simulationHistory.domain.SimulationHistory;
+import com.shinhan.backend.simulationHistory.mapper.SimulationHistoryMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class HistoryWriteBehindTest {
+
+    private final SimulationHistoryMapper mapper = mock(SimulationHistoryMapper.class);
+    private final HistoryAggregates aggregates = mock(HistoryAggregates.class);
+    private final HistoryVersions versions = new HistoryVersions();
+
+    @TempDir
+    Path deadLetterDir;
+
+    @Test
+    void bulkOfferIsAllOrNothing() {
+        HistoryWriteBehind wb = writeBehind(10, 4, 50);
+
+        assertThat(wb.offer(rows(1L, 8))).isTrue();
+        assertThat(wb.offer(rows(1L, 3))).isFalse();   // 2 자리밖에 없으므로 한 건도 넣지 않는다
+        assertThat(wb.pending()).isEqualTo(8);
+        assertThat(wb.offer(rows(1L, 2))).isTrue();
+    }
+
+    @Test
+    void flushesInBatchesAndDrainsOnShutdown() throws Exception {
+        List<Integer> sizes = new ArrayList<>();
+        when(mapper.insertHistoryBatch(anyList())).thenAnswer(inv -> {
+            List<?> batch = inv.getArgument(0);
+            synchronized (sizes) { sizes.add(batch.size()); }
+            return batch.size();
+        });
+        HistoryWriteBehind wb = writeBehind(100, 4, 50);
+        wb.offer(rows(1L, 6));
+        wb.offer(rows(2L, 4));
+
+        wb.start();
+        wb.shutdown();
+
+        assertThat(sizes).allSatisfy(n -> assertThat(n).isLessThanOrEqualTo(4));
+        assertThat(sizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(wb.pending()).isZero();
+        assertThat(wb.offer(rows(1L, 1))).isFalse();   // 종료 뒤에는 받지 않는다
+        assertThat(versions.current(1L)).isPositive();
+        assertThat(versions.current(2L)).isPositive();
+    }
+
+    @Test
+    void failedBatchIsRetried() throws Exception {
+        when(mapper.insertHistoryBatch(anyList()))
+                .thenThrow(new RuntimeException("deadlock"))
+                .thenReturn(2);
+        HistoryWriteBehind wb = writeBehind(10, 10, 20);
+        wb.offer(rows(3L, 2));
+
+        wb.start();
+        wb.shutdown();
+
+        verify(mapper, times(2)).insertHistoryBatch(anyList());
+        verify(aggregates).recordSubmitted(3L, 2);
+    }
+
+    @Test
+    void permanentlyFailedBatchGoesToDeadLetter() throws Exception {
+        when(mapper.insertHistoryBatch(anyList())).thenThrow(new RuntimeException("table missing"));
+        HistoryWriteBehind wb = writeBehind(10, 10, 20);
+        wb.offer(rows(4L, 3));
+
+        wb.start();
+        wb.shutdown();
+
+        List<String> lines = deadLetterLines();
+        assertThat(lines).hasSize(3);
+        assertThat(lines).allSatisfy(l -> assertThat(l).contains("\"memberNo\":4").contains("table missing"));
+        verify(aggregates, never()).recordSubmitted(anyLong(), anyInt());
+    }
+
+    // 종료와 겹친 offer: true 를 받은 행은 모두 쓰이거나 dead letter 에 있어야 한다
+    @Test
+    void rowsAcceptedDuringShutdownAreNotLost() throws Exception {
+        AtomicInteger written = new AtomicInteger();
+        when(mapper.insertHistoryBatch(anyList())).thenAnswer(inv -> {
+            int n = inv.<List<?>>getArgument(0).size();
+            written.addAndGet(n);
+            return n;
+        });
+        HistoryWriteBehind wb = writeBehind(100_000, 50, 5);
+        wb.start();
+
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread th = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 2_000; i++) {
+                    if (wb.offer(rows(5L, 3))) accepted.addAndGet(3);
+                }
+            });
+            th.start();
+            producers.add(th);
+        }
+        go.countDown();
+        Thread.sleep(5);
+        wb.shutdown();
+        for (Thread th : producers) th.join();
+
+        assertThat(accepted.get()).isPositive();
+        assertThat(wb.pending()).isZero();
+        assertThat(written.get() + deadLetterLines().size()).isEqualTo(accepted.get());
+    }
+
+    private HistoryWriteBehind writeBehind(int capacity, int batchSize, long maxDelayMs) {
+        HistoryDeadLetter deadLetter = new HistoryDeadLetter(new ObjectMapper().findAndRegisterModules(),
+                deadLetterDir.toString());
+        return new HistoryWriteBehind(mapper, versions, aggregates, deadLetter, capacity, batchSize, maxDelayMs);
+    }
+
+    private List<String> deadLetterLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(deadLetterDir)) {
+            for (Path f : files.toList()) lines.addAll(Files.readAllLines(f));
+        }
+        return lines;
+    }
+
+    private static List<SimulationHistory> rows(Long memberNo, int n) {
+        List<SimulationHistory> out = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            SimulationHistory h = new SimulationHistory();
+            h.setMemberNo(memberNo);
+            h.setHistoryDate("2024-03-05");
+            h.setHistoryType("매수");
+            h.setHistoryPredict("상승");
+            out.add(h);
+        }
+        return out;
+    }
+}